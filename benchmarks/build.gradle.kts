@@ -0,0 +1,16 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmh(project(":event"))
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+}
+
+// Benchmarks are only meant to be run locally
+tasks.withType<PublishToMavenRepository>().configureEach {
+    enabled = false
+}
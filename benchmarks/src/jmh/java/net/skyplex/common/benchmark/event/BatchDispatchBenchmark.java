@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link EventNode#callAll(java.util.Collection)} against a loop of {@link EventNode#call(Object)}
+ * for a burst of events of the same type, one per entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchDispatchBenchmark {
+
+    @Param({"16", "256"})
+    public int batchSize;
+
+    @Param({"1", "10"})
+    public int listeners;
+
+    private EventNode<Object> root;
+    private List<EntityTickEvent> events;
+
+    @Setup
+    public void setup() {
+        this.root = EventNode.all("root");
+        final EventNode<Object> entities = EventNode.all("entities");
+        root.addChild(entities);
+        for (int i = 0; i < listeners; i++) {
+            entities.addListener(EntityTickEvent.class, event -> event.ticks++);
+        }
+        this.events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            events.add(new EntityTickEvent());
+        }
+    }
+
+    @Benchmark
+    public void callLoop() {
+        for (EntityTickEvent event : events) {
+            root.call(event);
+        }
+    }
+
+    @Benchmark
+    public void callAll() {
+        root.callAll(events);
+    }
+
+    static final class EntityTickEvent {
+        int ticks;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventBinding;
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches an event through {@code count} filtered {@link EventBinding}s,
+ * compared to the same number of listeners doing the filtering themselves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingBenchmark {
+    private static final EventFilter<ScoreEvent, Team> TEAM_FILTER =
+            EventFilter.from(ScoreEvent.class, Team.class, ScoreEvent::team);
+
+    @Param({"1", "10", "100"})
+    public int count;
+
+    @Param({"true", "false"})
+    public boolean binding;
+
+    private EventNode<Object> root;
+    private ScoreEvent event;
+
+    @Setup
+    public void setup() {
+        this.root = EventNode.all("root");
+        for (int i = 0; i < count; i++) {
+            final int id = i;
+            if (binding) {
+                root.register(EventBinding.filtered(TEAM_FILTER, team -> team.id == id)
+                        .map(ScoreEvent.class, (team, event) -> team.score++)
+                        .build());
+            } else {
+                root.addListener(ScoreEvent.class, event -> {
+                    if (event.team().id == id) event.team().score++;
+                });
+            }
+        }
+        this.event = new ScoreEvent(new Team(count / 2));
+    }
+
+    @Benchmark
+    public int call() {
+        root.call(event);
+        return event.team().score;
+    }
+
+    static final class Team {
+        final int id;
+        int score;
+
+        Team(int id) {
+            this.id = id;
+        }
+    }
+
+    record ScoreEvent(Team team) {
+    }
+}
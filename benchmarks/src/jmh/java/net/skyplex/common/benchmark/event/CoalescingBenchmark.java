@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.CoalescingEventNode;
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates a tick where each of {@code entities} entities moves {@code updates} times,
+ * handled by a plain node or a coalescing one flushed at the end of the tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoalescingBenchmark {
+    private static final EventFilter<MoveEvent, Integer> ENTITY_FILTER =
+            EventFilter.from(MoveEvent.class, Integer.class, MoveEvent::entityId);
+
+    @Param({"100"})
+    public int entities;
+
+    @Param({"1", "10"})
+    public int updates;
+
+    @Param({"false", "true"})
+    public boolean coalescing;
+
+    private EventNode<Object> node;
+    private CoalescingEventNode<MoveEvent> coalescingNode;
+    private MoveEvent[] events;
+
+    @Setup
+    public void setup() {
+        node = EventNode.all("root");
+        final EventNode<MoveEvent> child;
+        if (coalescing) {
+            coalescingNode = EventNode.coalescing("moves", ENTITY_FILTER);
+            child = coalescingNode;
+        } else {
+            child = EventNode.type("moves", ENTITY_FILTER);
+        }
+        child.addListener(MoveEvent.class, event -> Blackhole.consumeCPU(100));
+        node.addChild(child);
+        events = new MoveEvent[entities * updates];
+        for (int i = 0; i < events.length; i++) events[i] = new MoveEvent(i % entities, i);
+    }
+
+    @Benchmark
+    public void tick() {
+        for (MoveEvent event : events) node.call(event);
+        if (coalescingNode != null) coalescingNode.flush();
+    }
+
+    public record MoveEvent(int entityId, int x) {
+    }
+}
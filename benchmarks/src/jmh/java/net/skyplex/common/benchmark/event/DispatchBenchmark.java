@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches an event through {@code depth} nested nodes, each of them having {@code listeners} listeners.
+ * <p>
+ * Run by {@link Lambda} with the default lambda chain, by {@link Compiled} with generated dispatchers
+ * and by {@link Frozen} with the generated dispatchers of a frozen graph, skipping the graph change checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class DispatchBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int listeners;
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int depth;
+
+    private EventNode<Object> root;
+
+    @Setup
+    public void setup() {
+        this.root = EventNode.all("root");
+        EventNode<Object> node = root;
+        for (int level = 0; level < depth; level++) {
+            for (int i = 0; i < listeners; i++) {
+                node.addListener(MoveEvent.class, event -> event.counter++);
+            }
+            if (level == depth - 1) break;
+            final EventNode<Object> child = EventNode.all("level-" + level);
+            node.addChild(child);
+            node = child;
+        }
+        if (frozen()) root.freeze();
+    }
+
+    boolean frozen() {
+        return false;
+    }
+
+    @Benchmark
+    public int call() {
+        final MoveEvent event = new MoveEvent();
+        root.call(event);
+        return event.counter;
+    }
+
+    @Fork(1)
+    public static class Lambda extends DispatchBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Dskycommon.event.compileDispatchers=true")
+    public static class Compiled extends DispatchBenchmark {
+    }
+
+    @Fork(1)
+    public static class Frozen extends DispatchBenchmark {
+        @Override
+        boolean frozen() {
+            return true;
+        }
+    }
+
+    static final class MoveEvent {
+        int counter;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.ListenerHandle;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls an event expensive to create through {@link EventNode#call(Class, java.util.function.Supplier)},
+ * compared to creating it before calling it. Without listener the supplier path is only the handle check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyEventBenchmark {
+    @Param({"true", "false"})
+    public boolean listener;
+
+    private EventNode<Object> root;
+    private ListenerHandle<PayloadEvent> handle;
+
+    @Setup
+    public void setup() {
+        this.root = EventNode.all("root");
+        if (listener) root.addListener(PayloadEvent.class, event -> Blackhole.consumeCPU(1));
+        this.handle = root.getHandle(PayloadEvent.class);
+    }
+
+    @Benchmark
+    public void eager() {
+        root.call(PayloadEvent.create());
+    }
+
+    @Benchmark
+    public void supplier() {
+        root.call(PayloadEvent.class, PayloadEvent::create);
+    }
+
+    @Benchmark
+    public void handleSupplier() {
+        handle.call(PayloadEvent::create);
+    }
+
+    /**
+     * Lower bound of the check, the listener presence being known.
+     */
+    @Benchmark
+    public void baseline() {
+        if (listener) root.call(PayloadEvent.create());
+    }
+
+    record PayloadEvent(long[] payload) {
+        static PayloadEvent create() {
+            final long[] payload = new long[64];
+            for (int i = 0; i < payload.length; i++) payload[i] = i * 31L;
+            return new PayloadEvent(payload);
+        }
+    }
+}
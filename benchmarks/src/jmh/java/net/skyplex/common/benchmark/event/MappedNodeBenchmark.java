@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.IntEventFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches events targeting one of {@code owners} objects, each of them having a node mapped
+ * with {@link EventNode#map(Object, EventFilter)} or to its id with {@link EventNode#mapInt(int, IntEventFilter)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedNodeBenchmark {
+    private static final EventFilter<PlayerEvent, Player> PLAYER_FILTER =
+            EventFilter.from(PlayerEvent.class, Player.class, PlayerEvent::player);
+    private static final IntEventFilter<PlayerEvent> PLAYER_ID_FILTER =
+            IntEventFilter.from(PlayerEvent.class, event -> event.player().id);
+
+    @Param({"1", "100", "10000"})
+    public int owners;
+
+    @Param({"false", "true"})
+    public boolean byId;
+
+    private EventNode<Object> root;
+    private PlayerEvent[] events;
+    private int index;
+
+    @Setup
+    public void setup() {
+        this.root = EventNode.all("root");
+        this.events = new PlayerEvent[owners];
+        for (int i = 0; i < owners; i++) {
+            final Player player = new Player(i);
+            final EventNode<PlayerEvent> node = byId ? root.mapInt(i, PLAYER_ID_FILTER) : root.map(player, PLAYER_FILTER);
+            node.addListener(PlayerEvent.class, event -> event.player().counter++);
+            this.events[i] = new PlayerEvent(player);
+        }
+    }
+
+    @Benchmark
+    public int call() {
+        final PlayerEvent event = events[index++ % events.length];
+        root.call(event);
+        return event.player().counter;
+    }
+
+    static final class Player {
+        final int id;
+        int counter;
+
+        Player(int id) {
+            this.id = id;
+        }
+    }
+
+    record PlayerEvent(Player player) {
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches from several threads while another one keeps adding and removing a listener in the same tree,
+ * each mutation invalidating the handles used by the dispatching threads.
+ * <p>
+ * {@code dispatch} is the reference without mutation, {@code mutated} the same dispatch under mutation.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutationDuringDispatchBenchmark {
+
+    @Param({"1", "10"})
+    public int listeners;
+
+    private EventNode<Object> root;
+    private EventNode<Object> leaf;
+    private EventListener<TickEvent> mutated;
+
+    @Setup
+    public void setup() {
+        this.root = EventNode.all("root");
+        this.leaf = EventNode.all("leaf");
+        root.addChild(leaf);
+        for (int i = 0; i < listeners; i++) {
+            root.addListener(TickEvent.class, event -> event.counter++);
+            leaf.addListener(TickEvent.class, event -> event.counter++);
+        }
+        this.mutated = EventListener.of(TickEvent.class, event -> event.counter++);
+    }
+
+    @Benchmark
+    @Group("dispatch")
+    @GroupThreads(3)
+    public int dispatchOnly() {
+        return call();
+    }
+
+    @Benchmark
+    @Group("mutated")
+    @GroupThreads(3)
+    public int dispatchMutated() {
+        return call();
+    }
+
+    @Benchmark
+    @Group("mutated")
+    @GroupThreads(1)
+    public void mutate() {
+        leaf.addListener(mutated);
+        leaf.removeListener(mutated);
+    }
+
+    private int call() {
+        final TickEvent event = new TickEvent();
+        root.call(event);
+        return event.counter;
+    }
+
+    static final class TickEvent {
+        int counter;
+    }
+}
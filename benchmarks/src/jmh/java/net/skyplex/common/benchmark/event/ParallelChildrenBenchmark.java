@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches an event to {@code children} nodes spending {@code work} tokens each,
+ * either sequentially or fanned out with {@link EventNode#setParallel(boolean)}.
+ * <p>
+ * Scaling with the core count is shown by running with
+ * {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism=N} or {@code -XX:ActiveProcessorCount=N}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelChildrenBenchmark {
+
+    @Param({"2", "8", "32"})
+    public int children;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    @Param({"1000", "10000"})
+    public int work;
+
+    private EventNode<Object> node;
+    private final WorkEvent event = new WorkEvent();
+
+    @Setup
+    public void setup() {
+        node = EventNode.all("root");
+        for (int i = 0; i < children; i++) {
+            var child = EventNode.all("child" + i).setParallel(parallel);
+            child.addListener(WorkEvent.class, e -> Blackhole.consumeCPU(work));
+            node.addChild(child);
+        }
+    }
+
+    @Benchmark
+    public void call() {
+        node.call(event);
+    }
+
+    public record WorkEvent() {
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventCodec;
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.EventRecorder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of an {@link EventRecorder} attached to the dispatching node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordingBenchmark {
+    private static final EventCodec<MoveEvent> CODEC = new EventCodec<>() {
+        @Override
+        public void encode(MoveEvent event, ByteBuffer buffer) {
+            buffer.putInt(event.entityId()).putDouble(event.x()).putDouble(event.y()).putDouble(event.z());
+        }
+
+        @Override
+        public MoveEvent decode(ByteBuffer buffer) {
+            return new MoveEvent(buffer.getInt(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+        }
+    };
+
+    @Param({"false", "true"})
+    public boolean recording;
+
+    private EventNode<Object> node;
+    private Path file;
+    private EventRecorder recorder;
+    private final MoveEvent event = new MoveEvent(1, 2, 3, 4);
+
+    @Setup
+    public void setup(Blackhole blackhole) throws IOException {
+        node = EventNode.all("root");
+        node.addListener(MoveEvent.class, blackhole::consume);
+        if (recording) {
+            file = Files.createTempFile("benchmark", ".rec");
+            recorder = EventRecorder.builder(file).codec(MoveEvent.class, CODEC).open();
+            recorder.attach(node);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (recorder != null) {
+            recorder.close();
+            Files.delete(file);
+        }
+    }
+
+    @Benchmark
+    public void call() {
+        node.call(event);
+    }
+
+    public record MoveEvent(int entityId, double x, double y, double z) {
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.RecursiveEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches a {@link RecursiveEvent} at {@code level} in a hierarchy having a listener for every level,
+ * the event reaching the listeners of all its recursive supertypes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecursiveEventBenchmark {
+
+    @Param({"0", "2", "4"})
+    public int level;
+
+    private EventNode<Object> root;
+    private LevelEvent event;
+
+    @Setup
+    public void setup() {
+        this.root = EventNode.all("root");
+        root.addListener(LevelEvent.class, event -> event.counter++);
+        root.addListener(Level1Event.class, event -> event.counter++);
+        root.addListener(Level2Event.class, event -> event.counter++);
+        root.addListener(Level3Event.class, event -> event.counter++);
+        root.addListener(Level4Event.class, event -> event.counter++);
+        this.event = switch (level) {
+            case 0 -> new LevelEvent();
+            case 1 -> new Level1Event();
+            case 2 -> new Level2Event();
+            case 3 -> new Level3Event();
+            default -> new Level4Event();
+        };
+    }
+
+    @Benchmark
+    public int call() {
+        root.call(event);
+        return event.counter;
+    }
+
+    static class LevelEvent implements RecursiveEvent {
+        int counter;
+    }
+
+    static class Level1Event extends LevelEvent {
+    }
+
+    static class Level2Event extends Level1Event {
+    }
+
+    static class Level3Event extends Level2Event {
+    }
+
+    static class Level4Event extends Level3Event {
+    }
+}
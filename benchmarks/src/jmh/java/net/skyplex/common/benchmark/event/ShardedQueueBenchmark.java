@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.ShardedEventQueue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sustained throughput of 4 producers handing events of random players to a queued node,
+ * whose listener spends {@code work} tokens per event. Full shards block the producers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ShardedQueueBenchmark {
+    private static final EventFilter<PlayerEvent, Integer> PLAYER_FILTER =
+            EventFilter.from(PlayerEvent.class, Integer.class, PlayerEvent::player);
+
+    @Param({"1", "4", "16"})
+    public int shards;
+
+    @Param({"100"})
+    public int work;
+
+    private EventNode<Object> node;
+
+    @Setup
+    public void setup() {
+        node = EventNode.all("root");
+        final var queue = ShardedEventQueue.builder().shards(shards).capacity(1024).build();
+        final var child = EventNode.type("players", PLAYER_FILTER).setQueue(queue);
+        child.addListener(PlayerEvent.class, event -> Blackhole.consumeCPU(work));
+        node.addChild(child);
+    }
+
+    @Benchmark
+    public void call() {
+        node.call(new PlayerEvent(ThreadLocalRandom.current().nextInt(1000)));
+    }
+
+    public record PlayerEvent(int player) {
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 SkyPlex (https://github.com/SkyPlexMC)
+ *
+ * Licensed under the BSD 4-Clause License.
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://spdx.org/licenses/BSD-4-Clause.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.skyplex.common.benchmark.event;
+
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mutates and dispatches from every benchmark thread, either in a tree owned by the thread
+ * or in a single tree shared by all of them.
+ * <p>
+ * Independent trees are expected to scale with the thread count ({@code -t}),
+ * while the shared tree serializes all mutations on its lock.
+ * <p>
+ * The mapped cases churn the listeners of a node mapped to the thread, as done per player.
+ * They only rebuild the handles of the mapped node, the root keeps routing to the other threads' nodes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TreeContentionBenchmark {
+
+    @Param({"false", "true"})
+    public boolean sharedTree;
+
+    private EventNode<Object> root;
+    private EventNode<Object> node;
+    private EventListener<TickEvent> listener;
+    private final Object owner = new Object();
+    private EventNode<TickEvent> mapped;
+
+    @Setup
+    public void setup(SharedRoot sharedRoot) {
+        this.root = sharedTree ? sharedRoot.root : EventNode.all("root");
+        this.node = EventNode.all("player");
+        this.root.addChild(node);
+        this.node.addListener(TickEvent.class, event -> event.counter++);
+        this.listener = EventListener.of(TickEvent.class, event -> event.counter++);
+        // Mapped nodes are weakly referenced, kept by the field
+        this.mapped = root.map(owner, EventFilter.from(TickEvent.class, Object.class, event -> event.owner));
+        this.mapped.addListener(TickEvent.class, event -> event.counter++);
+    }
+
+    @TearDown
+    public void tearDown() {
+        root.removeChild(node);
+        root.unmap(owner);
+    }
+
+    @Benchmark
+    public void mutate() {
+        node.addListener(listener);
+        node.removeListener(listener);
+    }
+
+    @Benchmark
+    public int mutateAndDispatch() {
+        node.addListener(listener);
+        final TickEvent event = new TickEvent(null); // Owned by no mapped node
+        root.call(event);
+        node.removeListener(listener);
+        return event.counter;
+    }
+
+    @Benchmark
+    public void mutateMapped() {
+        mapped.addListener(listener);
+        mapped.removeListener(listener);
+    }
+
+    @Benchmark
+    public int mutateMappedAndDispatch() {
+        mapped.addListener(listener);
+        final TickEvent event = new TickEvent(owner);
+        root.call(event);
+        mapped.removeListener(listener);
+        return event.counter;
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedRoot {
+        final EventNode<Object> root = EventNode.all("shared");
+    }
+
+    static final class TickEvent {
+        final Object owner;
+        int counter;
+
+        TickEvent(Object owner) {
+            this.owner = owner;
+        }
+    }
+}
@@ -3,6 +3,7 @@ plugins {
     `maven-publish`
     id("com.github.johnrengelman.shadow") version (libs.versions.shadow)
     id("com.diffplug.spotless") version (libs.versions.spotless)
+    id("me.champeau.jmh") version (libs.versions.champeau.jmh) apply false
 }
 
 allprojects {
@@ -74,5 +75,5 @@ allprojects {
 }
 
 dependencies {
-    subprojects.forEach(this::api)
+    subprojects.filter { it.name != "benchmarks" }.forEach(this::api)
 }
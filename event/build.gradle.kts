@@ -1,4 +1,5 @@
 dependencies {
     compileOnlyApi(libs.jetbrains.annotations)
     implementation(libs.caffeine)
+    testImplementation(libs.jol)
 }
@@ -0,0 +1,38 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A node buffering the events it receives, created with {@link EventNode#coalescing(String, EventFilter)}.
+ * <p>
+ * Events are keyed by their class and the handler of the node filter, a key keeps a single event
+ * until the node is flushed. Listeners run during the flush, after the call of the event returned,
+ * they therefore cannot cancel it.
+ *
+ * @param <T> The event type accepted by this node
+ */
+@ApiStatus.Experimental
+public sealed interface CoalescingEventNode<T> extends EventNode<T> permits EventNodeCoalescingImpl {
+
+    /**
+     * Calls the buffered events, in no particular order, on the calling thread.
+     * Events received during the flush are either called by it or kept for the next one.
+     *
+     * @return the number of called events
+     */
+    int flush();
+
+    /**
+     * Flushes this node periodically, on the threads of {@code scheduler}.
+     *
+     * @param scheduler the scheduler running the flushes
+     * @param period    the time between two flushes
+     * @return the future of the flushes, to be cancelled to stop them
+     */
+    @NotNull ScheduledFuture<?> scheduleFlush(@NotNull ScheduledExecutorService scheduler, @NotNull Duration period);
+}
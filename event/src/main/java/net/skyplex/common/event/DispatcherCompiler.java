@@ -0,0 +1,158 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Combines a sequence of listeners and consumers into a single method handle bound to their instances.
+ * <p>
+ * Once hot, the JVM customizes the lambda forms of the handle to the instances it is bound to,
+ * giving each step its own call site instead of sharing the megamorphic one of a loop.
+ * Steps are folded as a balanced tree, keeping the nesting of the handle within the inlining depth.
+ * <p>
+ * Disabled by default, enabled with the {@code skycommon.event.compileDispatchers} system property.
+ * Handles fall back to their lambda chain when disabled.
+ */
+final class DispatcherCompiler {
+    static final boolean ENABLED = Boolean.getBoolean("skycommon.event.compileDispatchers");
+
+    private static final int MAX_STEPS = 256;
+    private static final MethodType STEP = MethodType.methodType(void.class, Object.class);
+    private static final MethodHandle CALLABLE;
+    private static final MethodHandle RUN;
+    private static final MethodHandle FAILED;
+    private static final MethodHandle RESULT;
+    private static final MethodHandle ACCEPT;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            CALLABLE = lookup.findVirtual(EventNodeImpl.ListenerSlot.class, "callable",
+                    MethodType.methodType(boolean.class));
+            RUN = lookup.findVirtual(EventListener.class, "run",
+                    MethodType.methodType(EventListener.Result.class, Object.class));
+            FAILED = lookup.findStatic(DispatcherCompiler.class, "failed",
+                    MethodType.methodType(EventListener.Result.class, EventNodeImpl.Handle.class,
+                            EventNodeImpl.ListenerSlot.class, Throwable.class, Object.class));
+            RESULT = lookup.findStatic(DispatcherCompiler.class, "result",
+                    MethodType.methodType(void.class, EventNodeImpl.Handle.class,
+                            EventNodeImpl.ListenerSlot.class, EventListener.Result.class));
+            ACCEPT = lookup.findVirtual(Consumer.class, "accept", STEP);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DispatcherCompiler() {
+    }
+
+    static final class Builder<E> {
+        private final EventNodeImpl<?>.Handle<E> handle;
+        private final List<Object> steps = new ArrayList<>();
+
+        Builder(@NotNull EventNodeImpl<?>.Handle<E> handle) {
+            this.handle = handle;
+        }
+
+        /**
+         * Calls {@link EventListener#run(Object)} unless the slot is dead or disabled and forwards the result
+         * or the failure to the handle.
+         */
+        void listener(@NotNull EventNodeImpl.ListenerSlot<E> slot) {
+            this.steps.add(slot);
+        }
+
+        void consumer(@NotNull Consumer<E> consumer) {
+            this.steps.add(consumer);
+        }
+
+        boolean isEmpty() {
+            return steps.isEmpty();
+        }
+
+        /**
+         * Creates the dispatcher.
+         *
+         * @return the compiled consumer, null if there are too many steps to be compiled
+         */
+        @Nullable Consumer<E> build() {
+            if (steps.isEmpty() || steps.size() > MAX_STEPS) return null;
+            List<MethodHandle> handles = new ArrayList<>(steps.size());
+            for (Object step : steps) {
+                handles.add(step instanceof EventNodeImpl.ListenerSlot<?> slot ?
+                        listenerStep(handle, slot) :
+                        ACCEPT.bindTo(step));
+            }
+            return new Dispatcher<>(fold(handles, 0, handles.size()));
+        }
+    }
+
+    /**
+     * Creates the step equivalent to:
+     * <pre>{@code
+     * if (slot.callable()) {
+     *     final EventListener.Result result;
+     *     try {
+     *         result = listener.run(event);
+     *     } catch (Throwable e) {
+     *         handle.listenerFailed(e, slot);
+     *         return;
+     *     }
+     *     handle.onResult(slot, result);
+     * }
+     * }</pre>
+     */
+    private static MethodHandle listenerStep(EventNodeImpl<?>.Handle<?> handle, EventNodeImpl.ListenerSlot<?> slot) {
+        final MethodHandle run = MethodHandles.catchException(RUN.bindTo(slot.listener), Throwable.class,
+                MethodHandles.insertArguments(FAILED, 0, handle, slot));
+        final MethodHandle call = MethodHandles.filterReturnValue(run,
+                MethodHandles.insertArguments(RESULT, 0, handle, slot));
+        final MethodHandle callable = MethodHandles.dropArguments(CALLABLE.bindTo(slot), 0, Object.class);
+        return MethodHandles.guardWithTest(callable, call, MethodHandles.empty(STEP));
+    }
+
+    /**
+     * Combines the steps from {@code from} inclusive to {@code to} exclusive, calling them in order.
+     */
+    private static MethodHandle fold(List<MethodHandle> steps, int from, int to) {
+        if (to - from == 1) return steps.get(from);
+        final int middle = (from + to) >>> 1;
+        // The first half runs first, the second one then receives the same event
+        return MethodHandles.foldArguments(fold(steps, middle, to), fold(steps, from, middle));
+    }
+
+    /**
+     * Reports the failure of a listener, its result is skipped.
+     */
+    private static @Nullable EventListener.Result failed(EventNodeImpl<?>.Handle<Object> handle,
+                                                         EventNodeImpl.ListenerSlot<Object> slot,
+                                                         Throwable e, Object event) {
+        handle.listenerFailed(e, slot);
+        return null;
+    }
+
+    private static void result(EventNodeImpl<?>.Handle<Object> handle, EventNodeImpl.ListenerSlot<Object> slot,
+                               @Nullable EventListener.Result result) {
+        if (result != null) handle.onResult(slot, result); // Null once the failure was reported
+    }
+
+    private record Dispatcher<E>(MethodHandle steps) implements Consumer<E> {
+        @Override
+        public void accept(E event) {
+            try {
+                steps.invokeExact((Object) event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e); // Checked exception thrown by a consumer
+            }
+        }
+    }
+}
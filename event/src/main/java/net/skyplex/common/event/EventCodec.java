@@ -0,0 +1,32 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Serializes the events of a class for {@link EventRecorder} and {@link EventReplayer}.
+ *
+ * @param <E> The event type
+ */
+@ApiStatus.Experimental
+public interface EventCodec<E> {
+
+    /**
+     * Writes an event at the position of the buffer.
+     * Events not fitting in the buffer are dropped from the recording.
+     *
+     * @param event  the event to write
+     * @param buffer the buffer to write to
+     */
+    void encode(@NotNull E event, @NotNull ByteBuffer buffer);
+
+    /**
+     * Reads an event written by {@link #encode(Object, ByteBuffer)}.
+     *
+     * @param buffer the buffer to read from, starting at the event
+     * @return the event
+     */
+    @NotNull E decode(@NotNull ByteBuffer buffer);
+}
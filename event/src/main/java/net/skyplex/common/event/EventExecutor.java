@@ -0,0 +1,51 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holder of the executor used by {@link EventNode#callAsync(Object)} when no node defines one.
+ * <p>
+ * Creates a virtual thread per task when supported (JDK 21+), a pool bounded to the number of processors otherwise.
+ * The queue of the pool is bounded as well, tasks submitted while it is full run in the calling thread.
+ */
+final class EventExecutor {
+    /**
+     * Tasks waiting per thread of the platform pool.
+     */
+    private static final int QUEUE_PER_THREAD = 1024;
+    private static final Executor DEFAULT = createDefault();
+
+    private EventExecutor() {
+    }
+
+    static @NotNull Executor defaultExecutor() {
+        return DEFAULT;
+    }
+
+    private static Executor createDefault() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // Virtual threads are not available, use platform threads
+        }
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final AtomicInteger counter = new AtomicInteger();
+        final ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "SkyCommon-Event-Async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(threads * QUEUE_PER_THREAD), factory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,62 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Types whose listeners receive an event, computed once per event class.
+ * <p>
+ * An event reaches the listeners of its own type and, if it is a {@link RecursiveEvent},
+ * the ones of its superclasses implementing {@link RecursiveEvent} up to the first one not implementing it.
+ * The interfaces extending {@link RecursiveEvent} implemented by any of these classes are then targeted,
+ * the marker interface itself excluded.
+ */
+final class EventHierarchy {
+    private static final ClassValue<List<Class<?>>> TARGETS = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            return compute(type);
+        }
+    };
+
+    private EventHierarchy() {
+    }
+
+    /**
+     * Gets the types targeted by an event, from the most to the least specific.
+     *
+     * @param type the event type
+     * @return the immutable list of targeted types, starting with {@code type}
+     */
+    static @NotNull List<Class<?>> targets(@NotNull Class<?> type) {
+        return TARGETS.get(type);
+    }
+
+    private static List<Class<?>> compute(Class<?> type) {
+        if (!RecursiveEvent.class.isAssignableFrom(type)) return List.of(type);
+        Set<Class<?>> targets = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null && RecursiveEvent.class.isAssignableFrom(current);
+             current = current.getSuperclass()) {
+            targets.add(current);
+        }
+        // Interfaces, breadth first
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> target : targets) Collections.addAll(queue, target.getInterfaces());
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        while (!queue.isEmpty()) {
+            final Class<?> candidate = queue.poll();
+            if (candidate == RecursiveEvent.class || !RecursiveEvent.class.isAssignableFrom(candidate)) continue;
+            if (!targets.contains(candidate) && interfaces.add(candidate)) {
+                Collections.addAll(queue, candidate.getInterfaces());
+            }
+        }
+        targets.addAll(interfaces);
+        return List.copyOf(targets);
+    }
+}
@@ -22,6 +22,19 @@ public interface EventListener<T> {
 
     @NotNull Result run(@NotNull T event);
 
+    /**
+     * Gets if this listener has nothing to do with a cancelled {@link CancellableEvent},
+     * letting nodes skip it entirely once the event is cancelled.
+     * <p>
+     * Listeners created by {@link Builder} return the value of {@link Builder#ignoreCancelled(boolean)},
+     * other listeners still receive cancelled events by default.
+     *
+     * @return true if the listener can be skipped for cancelled events
+     */
+    default boolean ignoreCancelled() {
+        return false;
+    }
+
     @Contract(pure = true)
     static @NotNull <T> Builder<T> builder(@NotNull Class<T> eventType) {
         return new Builder<>(eventType);
@@ -125,6 +138,11 @@ public interface EventListener<T> {
                     return eventType;
                 }
 
+                @Override
+                public boolean ignoreCancelled() {
+                    return ignoreCancelled;
+                }
+
                 @Override
                 public @NotNull Result run(@NotNull T event) {
                     // Event cancellation
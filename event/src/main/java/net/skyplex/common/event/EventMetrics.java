@@ -0,0 +1,200 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatch metrics of a single node, collected once enabled by {@link EventNode#setMetricsEnabled(boolean)}.
+ * <p>
+ * Node statistics include the time spent in children, listener statistics only the listener itself.
+ * Latency percentiles have a power of two resolution.
+ */
+@ApiStatus.Experimental
+public final class EventMetrics {
+    private final Stats node = new Stats();
+    private final Stats batches = new Stats();
+    private final LongAdder rebuilds = new LongAdder();
+    private final Map<EventListener<?>, Stats> listeners = new ConcurrentHashMap<>();
+
+    EventMetrics() {
+    }
+
+    /**
+     * Gets the statistics of the whole node, children included.
+     * Exceptions are the ones thrown by the listeners of the node.
+     * <p>
+     * Each event of a batch counts as an invocation taking the mean latency of its batch,
+     * percentiles therefore do not show the spread inside a batch. See {@link #batches()} for the batches themselves.
+     *
+     * @return the node statistics
+     */
+    public @NotNull Stats node() {
+        return node;
+    }
+
+    /**
+     * Gets the statistics of the batches dispatched by the node, one invocation per batch, children included.
+     *
+     * @return the batch statistics
+     * @see EventNode#callAll(java.util.Collection)
+     */
+    public @NotNull Stats batches() {
+        return batches;
+    }
+
+    /**
+     * Gets the number of times a handle of the node has been rebuilt after a graph change.
+     *
+     * @return the rebuild count
+     */
+    public long rebuilds() {
+        return rebuilds.sum();
+    }
+
+    /**
+     * Gets the statistics of every listener called since the metrics have been enabled,
+     * until the listener is removed from the node or expires.
+     * Bindings are included, with one listener per event type they handle.
+     *
+     * @return an unmodifiable view of the listener statistics
+     */
+    public @NotNull Map<EventListener<?>, Stats> listeners() {
+        return Collections.unmodifiableMap(listeners);
+    }
+
+    public void reset() {
+        node.reset();
+        batches.reset();
+        rebuilds.reset();
+        listeners.values().forEach(Stats::reset);
+    }
+
+    @Override
+    public String toString() {
+        return node + ", rebuilds=" + rebuilds();
+    }
+
+    @NotNull Stats listener(@NotNull EventNodeImpl.ListenerSlot<?> slot) {
+        final Stats stats = listeners.computeIfAbsent(slot.listener, l -> new Stats());
+        // Killed while its consumer was being built
+        if (slot.dead) removed(slot);
+        return stats;
+    }
+
+    /**
+     * Forgets the statistics of the listener of a killed slot, unless it is still registered in another slot of the node.
+     */
+    void removed(@NotNull EventNodeImpl.ListenerSlot<?> slot) {
+        for (var other : slot.entry.listeners) {
+            if (!other.dead && other.listener.equals(slot.listener)) return;
+        }
+        for (var other : slot.entry.bindings) {
+            if (!other.dead && other.listener.equals(slot.listener)) return;
+        }
+        listeners.remove(slot.listener);
+    }
+
+    void rebuilt() {
+        rebuilds.increment();
+    }
+
+    static String listenerName(@NotNull EventListener<?> listener) {
+        return listener.eventType().getSimpleName() + '@' + Integer.toHexString(System.identityHashCode(listener));
+    }
+
+    public static final class Stats {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder exceptions = new LongAdder();
+        /**
+         * Invocation count per latency bucket, bucket {@code i} counts invocations taking less than {@code 2^i} nanoseconds.
+         */
+        private final AtomicLongArray histogram = new AtomicLongArray(Long.SIZE);
+
+        Stats() {
+        }
+
+        public long invocations() {
+            return invocations.sum();
+        }
+
+        public long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long exceptions() {
+            return exceptions.sum();
+        }
+
+        public double meanNanos() {
+            final long invocations = invocations();
+            return invocations == 0 ? 0 : (double) totalNanos() / invocations;
+        }
+
+        /**
+         * Gets an upper bound of the latency percentile.
+         *
+         * @param percentile the percentile, between 0 and 1
+         * @return the latency in nanoseconds below which {@code percentile} of the invocations are
+         */
+        public long percentileNanos(double percentile) {
+            Check.argCondition(percentile < 0 || percentile > 1, "Percentile must be between 0 and 1");
+            long total = 0;
+            for (int i = 0; i < histogram.length(); i++) total += histogram.get(i);
+            if (total == 0) return 0;
+            final long target = (long) Math.ceil(total * percentile);
+            long count = 0;
+            for (int i = 0; i < histogram.length(); i++) {
+                count += histogram.get(i);
+                if (count >= target && count > 0) return i == Long.SIZE - 1 ? Long.MAX_VALUE : 1L << i;
+            }
+            return Long.MAX_VALUE;
+        }
+
+        void record(long nanos) {
+            record(nanos, 1);
+        }
+
+        /**
+         * Records {@code count} invocations having taken {@code nanos} in total.
+         */
+        void record(long nanos, int count) {
+            invocations.add(count);
+            totalNanos.add(nanos);
+            final long average = nanos / count;
+            histogram.addAndGet(Long.SIZE - Long.numberOfLeadingZeros(average), count);
+        }
+
+        void failed() {
+            exceptions.increment();
+        }
+
+        void reset() {
+            invocations.reset();
+            totalNanos.reset();
+            exceptions.reset();
+            for (int i = 0; i < histogram.length(); i++) histogram.set(i, 0);
+        }
+
+        @Override
+        public String toString() {
+            return "calls=" + invocations() +
+                    ", mean=" + formatNanos((long) meanNanos()) +
+                    ", p50=" + formatNanos(percentileNanos(0.5)) +
+                    ", p99=" + formatNanos(percentileNanos(0.99)) +
+                    ", exceptions=" + exceptions();
+        }
+
+        private static String formatNanos(long nanos) {
+            if (nanos < 1_000) return nanos + "ns";
+            if (nanos < 1_000_000) return String.format("%.1fµs", nanos / 1_000d);
+            return String.format("%.1fms", nanos / 1_000_000d);
+        }
+    }
+}
@@ -5,11 +5,16 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Represents a single node in an event graph.
@@ -20,7 +25,7 @@ import java.util.function.Predicate;
  *
  * @param <T> The event type accepted by this node
  */
-public sealed interface EventNode<T> permits EventNodeImpl {
+public sealed interface EventNode<T> permits CoalescingEventNode, EventNodeImpl {
 
     /**
      * Creates an event node which accepts any event type with no filtering.
@@ -132,6 +137,45 @@ public sealed interface EventNode<T> permits EventNodeImpl {
         return create(name, filter, (e, h) -> predicate.test(h));
     }
 
+    /**
+     * Creates a node buffering the events of the given type until {@link CoalescingEventNode#flush()},
+     * keeping only the most recent event of each class per handler of the {@link EventFilter}.
+     * <p>
+     * For example, you could only handle the last position of each player every tick
+     * <p><pre>
+     * var positions = EventNode.coalescing("positions", EventFilter.PLAYER);
+     * </pre>
+     *
+     * @param name   The name of the event node
+     * @param filter The event type filter to apply, its handler being the coalescing key
+     * @param <E>    The resulting event type of the node
+     * @return A coalescing node with an event type filter
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_, _ -> new", pure = true)
+    static <E, V> @NotNull CoalescingEventNode<E> coalescing(@NotNull String name,
+                                                             @NotNull EventFilter<E, V> filter) {
+        return coalescing(name, filter, (previous, next) -> next);
+    }
+
+    /**
+     * Creates a node buffering the events of the given type until {@link CoalescingEventNode#flush()},
+     * merging the events of the same class having the same handler of the {@link EventFilter}.
+     *
+     * @param name   The name of the event node
+     * @param filter The event type filter to apply, its handler being the coalescing key
+     * @param merger Merges the buffered event with a new one, into an event of the same class
+     * @param <E>    The resulting event type of the node
+     * @return A coalescing node with an event type filter
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_, _, _ -> new", pure = true)
+    static <E, V> @NotNull CoalescingEventNode<E> coalescing(@NotNull String name,
+                                                             @NotNull EventFilter<E, V> filter,
+                                                             @NotNull BinaryOperator<E> merger) {
+        return new EventNodeCoalescingImpl<>(name, filter, merger);
+    }
+
     private static <E, V> EventNode<E> create(@NotNull String name,
                                               @NotNull EventFilter<E, V> filter,
                                               @Nullable BiPredicate<E, V> predicate) {
@@ -149,12 +193,54 @@ public sealed interface EventNode<T> permits EventNodeImpl {
         getHandle((Class<T>) event.getClass()).call(event);
     }
 
+    /**
+     * Calls a batch of events starting from this node.
+     * <p>
+     * When all the events have the same class, listeners are resolved once
+     * and called listener-major as described in {@link ListenerHandle#callAll(Collection)}.
+     * Batches mixing classes are called one event at a time.
+     *
+     * @param events the events to call
+     */
+    void callAll(@NotNull Collection<? extends T> events);
+
+    /**
+     * Calls the event given by {@code supplier} starting from this node, only invoked if the event has a listener.
+     *
+     * @param eventType the exact type of the event
+     * @param supplier  the supplier of the event to call
+     * @param <E>       the event type
+     * @see ListenerHandle#call(Supplier)
+     */
+    @ApiStatus.Experimental
+    default <E extends T> void call(@NotNull Class<E> eventType, @NotNull Supplier<? extends E> supplier) {
+        getHandle(eventType).call(supplier);
+    }
+
+    /**
+     * Calls an event starting from this node, on the executor of this node or of its closest parent defining one.
+     * A virtual thread per task is used when none of them does (JDK 21+), a pool bounded to the number of processors otherwise.
+     * Its queue is bounded as well, the event is called in the calling thread while it is full.
+     * <p>
+     * Listeners reached from this node run on the executor thread, in the same order as {@link #call(Object)}.
+     * Children with their own executor are forwarded the event without being waited for.
+     *
+     * @param event the event to call
+     * @return a future completed with {@code event} once the listeners ran,
+     * the {@link CancellableEvent#isCancelled()} state is final at that point
+     * @see #setExecutor(Executor)
+     */
+    @NotNull CompletableFuture<T> callAsync(@NotNull T event);
+
     default boolean hasListener(@NotNull Class<? extends T> type) {
         return getHandle(type).hasListener();
     }
 
     /**
      * Gets the handle of an event type.
+     * <p>
+     * The same handle is returned for every call with {@code handleType}, producers may cache it
+     * as it remains up-to-date whatever happens to the graph.
      *
      * @param handleType the handle type
      * @param <E>        the event type
@@ -177,6 +263,26 @@ public sealed interface EventNode<T> permits EventNodeImpl {
         }
     }
 
+    /**
+     * Asynchronous version of {@link #callCancellable(Object, Runnable)}.
+     * <p>
+     * The callback is executed on the executor thread once the event has been called,
+     * only if no listener reached synchronously from the executor cancelled it.
+     * Children with their own executor are not waited for and cannot prevent the callback.
+     *
+     * @param event           The event to execute
+     * @param successCallback A callback if the event is not cancelled
+     * @return a future completed with {@code event} once the callback ran or was skipped
+     */
+    default @NotNull CompletableFuture<T> callCancellableAsync(@NotNull T event, @NotNull Runnable successCallback) {
+        return callAsync(event).thenApply(e -> {
+            if (!(e instanceof CancellableEvent cancellableEvent) || !cancellableEvent.isCancelled()) {
+                successCallback.run();
+            }
+            return e;
+        });
+    }
+
     @Contract(pure = true)
     @NotNull Class<T> getEventType();
 
@@ -223,7 +329,8 @@ public sealed interface EventNode<T> permits EventNodeImpl {
     }
 
     /**
-     * Replaces all children matching the given name and type recursively starting from this node.
+     * Replaces the first child matching the given name and type recursively starting from this node,
+     * the replacement node being added to the parent of the replaced one.
      * <p>
      * Node: The callee may not be replaced by this call.
      *
@@ -234,7 +341,8 @@ public sealed interface EventNode<T> permits EventNodeImpl {
     <E extends T> void replaceChildren(@NotNull String name, @NotNull Class<E> eventType, @NotNull EventNode<E> eventNode);
 
     /**
-     * Replaces all children matching the given name and type recursively starting from this node.
+     * Replaces the first child matching the given name and type recursively starting from this node,
+     * the replacement node being added to the parent of the replaced one.
      * <p>
      * Node: The callee may not be replaced by this call.
      *
@@ -312,12 +420,258 @@ public sealed interface EventNode<T> permits EventNodeImpl {
     @ApiStatus.Experimental
     void unmap(@NotNull Object value);
 
+    /**
+     * Maps an int value, such as an entity id, to a node receiving the events whose handler is {@code value}.
+     * <p>
+     * Unlike {@link #map(Object, EventFilter)}, events are routed without boxing nor weak references.
+     * The node is therefore kept until {@link #unmapInt(int)} is called.
+     *
+     * @param value  the mapped value
+     * @param filter the filter to use
+     * @return the node (which may have already been registered) directly linked to {@code value}
+     */
+    @ApiStatus.Experimental
+    <E extends T> @NotNull EventNode<E> mapInt(int value, @NotNull IntEventFilter<E> filter);
+
+    /**
+     * Removes the node mapped to {@code value} by {@link #mapInt(int, IntEventFilter)}.
+     *
+     * @param value the value to unmap
+     */
+    @ApiStatus.Experimental
+    void unmapInt(int value);
+
+    /**
+     * Maps a long value to a node receiving the events whose handler is {@code value},
+     * see {@link #mapInt(int, IntEventFilter)}.
+     * <p>
+     * Long values are distinct from the ones of {@link #mapInt(int, IntEventFilter)}.
+     *
+     * @param value  the mapped value
+     * @param filter the filter to use
+     * @return the node (which may have already been registered) directly linked to {@code value}
+     */
+    @ApiStatus.Experimental
+    <E extends T> @NotNull EventNode<E> mapLong(long value, @NotNull LongEventFilter<E> filter);
+
+    /**
+     * Removes the node mapped to {@code value} by {@link #mapLong(long, LongEventFilter)}.
+     *
+     * @param value the value to unmap
+     */
+    @ApiStatus.Experimental
+    void unmapLong(long value);
+
     @ApiStatus.Experimental
     void register(@NotNull EventBinding<? extends T> binding);
 
     @ApiStatus.Experimental
     void unregister(@NotNull EventBinding<? extends T> binding);
 
+    /**
+     * Applies {@code mutations} to the graph of this node as a single change.
+     * <p>
+     * The graph is locked while {@code mutations} runs, and the handles are invalidated once when it returns.
+     * Other threads keep dispatching to the listeners of the graph before the batch until then,
+     * never observing or rebuilding a partially applied batch. Removed listeners keep receiving their events
+     * until the end of the batch.
+     * <p>
+     * Every node of the graph can be mutated, batches can be nested. Mutations applied before
+     * {@code mutations} throws are kept.
+     * <p>
+     * The batch must only mutate the graph of this node, new children excepted, as another thread could be
+     * waiting for this graph while holding the other one. Mutating a node of another graph always throws an
+     * {@link IllegalStateException}, before waiting for its lock. Other operations on another graph, such as
+     * dispatching events to it, wait for it like outside a batch.
+     *
+     * @param mutations the mutations, given this node
+     * @throws IllegalStateException if the node is frozen, or if {@code mutations} mutates another graph
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> batch(@NotNull Consumer<@NotNull EventNode<T>> mutations);
+
+    /**
+     * Gets if this node can be dispatched concurrently with its siblings.
+     *
+     * @return true if the node is parallel
+     * @see #setParallel(boolean)
+     */
+    @ApiStatus.Experimental
+    @Contract(pure = true)
+    boolean isParallel();
+
+    /**
+     * Marks this node as independent of its siblings, for subtrees having no side effect on the others
+     * such as analytics or logging.
+     * <p>
+     * Parallel children are forked to the {@link java.util.concurrent.ForkJoinPool} of the dispatching thread,
+     * or the common one, while the sequential children run in priority order. The parent waits for all of them
+     * before returning, exceptions are given to the exception handler of the forked child.
+     * Events implementing {@link CancellableEvent} are always dispatched sequentially.
+     *
+     * @param parallel true to dispatch this node concurrently with its siblings
+     * @return this, can be used for chaining
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> setParallel(boolean parallel);
+
+    /**
+     * Gets if this node is frozen.
+     *
+     * @return true if the node is frozen
+     * @see #freeze()
+     */
+    @ApiStatus.Experimental
+    @Contract(pure = true)
+    boolean isFrozen();
+
+    /**
+     * Freezes this node and its subtree, mapped nodes included, for graphs which do not change after their creation.
+     * <p>
+     * Dispatchers are compiled for every event type listened to in the subtree, and are then used without
+     * checking for graph changes. Mutations of the frozen nodes throw an {@link IllegalStateException}
+     * until {@link #unfreeze()} is called, except for the removal of expired listeners.
+     * Changes made to the parents of this node are not reflected in its dispatchers, such as their watchdog.
+     *
+     * @return this, can be used for chaining
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "-> this")
+    @NotNull EventNode<T> freeze();
+
+    /**
+     * Unfreezes this node and its subtree, making them mutable again.
+     * <p>
+     * The dispatchers of frozen parents include the ones of this node, a subtree can only be unfrozen
+     * once its parents are.
+     *
+     * @return this, can be used for chaining
+     * @throws IllegalStateException if a parent of this node is frozen
+     * @see #freeze()
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "-> this")
+    @NotNull EventNode<T> unfreeze();
+
+    /**
+     * Gets the executor of this node.
+     *
+     * @return the executor, null if the node is synchronous
+     * @see #setExecutor(Executor)
+     */
+    @Contract(pure = true)
+    @Nullable Executor getExecutor();
+
+    /**
+     * Makes this node and its children asynchronous.
+     * <p>
+     * Events reaching this node from its parent are forwarded to {@code executor} and the parent
+     * continues without waiting. Listeners of the node thus cannot influence the {@link CancellableEvent}
+     * state observed by the caller, such as the callback of {@link #callCancellable(Object, Runnable)}.
+     * Events called directly from this node are still synchronous, use {@link #callAsync(Object)} instead.
+     * <p>
+     * Synchronous nodes, the default, have no additional cost.
+     *
+     * @param executor the executor to use, null to make the node synchronous again
+     * @return this, can be used for chaining
+     */
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> setExecutor(@Nullable Executor executor);
+
+    /**
+     * Gets the queue of this node.
+     *
+     * @return the queue, null if the node is not queued
+     * @see #setQueue(ShardedEventQueue)
+     */
+    @ApiStatus.Experimental
+    @Contract(pure = true)
+    @Nullable ShardedEventQueue getQueue();
+
+    /**
+     * Makes this node and its children asynchronous, ordered per handler of the node filter.
+     * <p>
+     * Events reaching this node from its parent are queued in the shard of their handler and the parent
+     * continues without waiting, as with {@link #setExecutor(Executor)} which is ignored while a queue is set.
+     * Batches are split per shard, keeping their order.
+     *
+     * @param queue the queue to use, null to make the node synchronous again
+     * @return this, can be used for chaining
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> setQueue(@Nullable ShardedEventQueue queue);
+
+    /**
+     * Gets the dispatch metrics of this node.
+     * <p>
+     * Also displayed next to the node in {@link #toString()}.
+     *
+     * @return the metrics, null if they are not enabled
+     * @see #setMetricsEnabled(boolean)
+     */
+    @ApiStatus.Experimental
+    @Nullable EventMetrics metrics();
+
+    /**
+     * Enables or disables the collection of {@link EventMetrics} for this node and its listeners.
+     * <p>
+     * Disabled nodes, the default, have no additional cost. Enabling again resets the metrics.
+     *
+     * @param enabled true to collect metrics
+     * @return this, can be used for chaining
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> setMetricsEnabled(boolean enabled);
+
+    /**
+     * Gets the watchdog of this node.
+     *
+     * @return the watchdog, null if the node has none
+     * @see #setWatchdog(ListenerWatchdog)
+     */
+    @ApiStatus.Experimental
+    @Contract(pure = true)
+    @Nullable ListenerWatchdog getWatchdog();
+
+    /**
+     * Reports the listeners of this node and its children taking longer than the budgets of {@code watchdog}.
+     * <p>
+     * Children with their own watchdog use it instead. Nodes without watchdog, the default, have no additional cost.
+     *
+     * @param watchdog the watchdog to use, null to remove it
+     * @return this, can be used for chaining
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> setWatchdog(@Nullable ListenerWatchdog watchdog);
+
+    /**
+     * Gets the circuit breaker of this node.
+     *
+     * @return the circuit breaker, null if the node has none
+     * @see #setCircuitBreaker(ListenerCircuitBreaker)
+     */
+    @ApiStatus.Experimental
+    @Contract(pure = true)
+    @Nullable ListenerCircuitBreaker getCircuitBreaker();
+
+    /**
+     * Disables the listeners of this node and its children failing repeatedly, as configured by {@code circuitBreaker}.
+     * <p>
+     * A failing listener never prevents the other listeners from receiving the event, with or without
+     * circuit breaker. Children with their own circuit breaker use it instead.
+     *
+     * @param circuitBreaker the circuit breaker to use, null to remove it
+     * @return this, can be used for chaining
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> setCircuitBreaker(@Nullable ListenerCircuitBreaker circuitBreaker);
+
     @Nullable Consumer<Throwable> getExceptionHandler();
 
     EventNode<T> setExceptionHandler(@Nullable Consumer<Throwable> exceptionHandler);
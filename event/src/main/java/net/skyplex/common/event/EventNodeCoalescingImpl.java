@@ -0,0 +1,97 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+final class EventNodeCoalescingImpl<T> extends EventNodeImpl<T> implements CoalescingEventNode<T> {
+    private final BinaryOperator<T> merger;
+    private final Map<Key, Pending<?>> pending = new ConcurrentHashMap<>();
+
+    EventNodeCoalescingImpl(@NotNull String name, @NotNull EventFilter<T, ?> filter, @NotNull BinaryOperator<T> merger) {
+        super(name, filter, null);
+        this.merger = merger;
+    }
+
+    @Override
+    <E> @Nullable Consumer<E> wrapConsumer(@NotNull Handle<E> handle, @Nullable Consumer<E> consumer) {
+        if (consumer == null) return null;
+        return new Buffering<>(handle, consumer);
+    }
+
+    @Override
+    <E> @Nullable Consumer<List<E>> wrapBatchConsumer(@NotNull Handle<E> handle, @Nullable Consumer<List<E>> consumer) {
+        if (consumer == null) return null;
+        return events -> {
+            for (E event : events) buffer(handle, event);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> void buffer(Handle<E> handle, E event) {
+        final Key key = new Key(event.getClass(), filter.getHandler((T) event));
+        pending.merge(key, new Pending<>(handle, event),
+                (previous, next) -> new Pending<>(handle, (E) merger.apply((T) previous.event(), (T) event)));
+    }
+
+    @Override
+    public int flush() {
+        int count = 0;
+        for (Key key : pending.keySet()) {
+            final Pending<?> entry = pending.remove(key);
+            if (entry == null) continue;
+            call(entry);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Calls a buffered event with the listeners of the node at the time of the flush.
+     */
+    @SuppressWarnings("unchecked")
+    private <E> void call(Pending<E> entry) {
+        if (!(entry.handle().updatedListener() instanceof EventNodeCoalescingImpl<?>.Buffering<?> buffering)) return;
+        try {
+            ((Buffering<E>) buffering).direct.accept(entry.event());
+        } catch (Throwable e) {
+            handleException(e);
+        }
+    }
+
+    @Override
+    public @NotNull ScheduledFuture<?> scheduleFlush(@NotNull ScheduledExecutorService scheduler, @NotNull Duration period) {
+        final long nanos = period.toNanos();
+        return scheduler.scheduleAtFixedRate(this::flush, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private record Key(Class<?> eventType, @Nullable Object handler) {
+    }
+
+    private record Pending<E>(EventNodeImpl<?>.Handle<E> handle, E event) {
+    }
+
+    private final class Buffering<E> implements Consumer<E> {
+        private final Handle<E> handle;
+        private final Consumer<E> direct;
+
+        Buffering(Handle<E> handle, Consumer<E> direct) {
+            this.handle = handle;
+            this.direct = direct;
+        }
+
+        @Override
+        public void accept(E event) {
+            buffer(handle, event);
+        }
+    }
+}
@@ -5,32 +5,73 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.ref.WeakReference;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 non-sealed class EventNodeImpl<T> implements EventNode<T> {
-    static final Object GLOBAL_CHILD_LOCK = new Object();
+    private static final VarHandle HANDLE_MAP;
 
-    private final Map<Class<?>, Handle<T>> handleMap = new ConcurrentHashMap<>();
-    final Map<Class<? extends T>, ListenerEntry<T>> listenerMap = new ConcurrentHashMap<>();
-    final Set<EventNodeImpl<T>> children = new CopyOnWriteArraySet<>();
-    final Map<Object, EventNodeImpl<T>> mappedNodeCache = Caffeine.newBuilder()
-            .weakKeys().weakValues().<Object, EventNodeImpl<T>>build().asMap();
-    final Map<Object, EventNodeImpl<T>> registeredMappedNode = Caffeine.newBuilder()
-            .weakKeys().weakValues().<Object, EventNodeImpl<T>>build().asMap();
+    static {
+        try {
+            HANDLE_MAP = MethodHandles.lookup().findVarHandle(EventNodeImpl.class, "handleMap", Map.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*
+     * The structures below are shared empty instances until their first write, most nodes being leaves
+     * never mapping anything. They are replaced under the tree lock, except the handles which are created
+     * by any thread calling the node.
+     */
+    private volatile Map<Class<?>, Handle<T>> handleMap = Collections.emptyMap();
+    volatile Map<Class<? extends T>, ListenerEntry<T>> listenerMap = Collections.emptyMap();
+    volatile Set<EventNodeImpl<T>> children = Collections.emptySet();
+    volatile Map<Object, EventNodeImpl<T>> mappedNodeCache = Collections.emptyMap();
+    volatile Map<Object, EventNodeImpl<T>> registeredMappedNode = Collections.emptyMap();
 
     final String name;
     final EventFilter<T, ?> filter;
     final BiPredicate<T, Object> predicate;
     final Class<T> eventType;
     volatile int priority;
+    volatile boolean parallel;
+    volatile boolean frozen;
     volatile EventNodeImpl<? super T> parent;
+    volatile Tree tree = new Tree();
+    volatile Executor executor;
+    volatile ShardedEventQueue queue;
+    volatile EventMetrics metrics;
+    volatile ListenerWatchdog watchdog;
+    volatile ListenerCircuitBreaker circuitBreaker;
+    /**
+     * Created on the first {@link #mapInt(int, IntEventFilter)} and {@link #mapLong(long, LongEventFilter)}.
+     */
+    volatile IdMapping<T> intMapping, longMapping;
+    /**
+     * Listeners and bindings by event type in the registered mapped nodes below this node, guarded by the tree lock.
+     * Only their appearance and disappearance invalidate the handles routing to the mapped nodes.
+     */
+    private Map<Class<?>, Integer> mappedListeners;
     Consumer<Throwable> exceptionHandler;
 
     EventNodeImpl(@NotNull String name,
@@ -45,105 +86,220 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
     @Override
     @SuppressWarnings("unchecked")
     public <E extends T> @NotNull ListenerHandle<E> getHandle(@NotNull Class<E> handleType) {
-        return (ListenerHandle<E>) handleMap.computeIfAbsent(handleType,
+        final Handle<T> handle = handleMap.get(handleType);
+        if (handle != null) return (ListenerHandle<E>) handle;
+        return (ListenerHandle<E>) handles().computeIfAbsent(handleType,
                 aClass -> new Handle<>((Class<T>) aClass));
     }
 
+    private Map<Class<?>, Handle<T>> handles() {
+        final Map<Class<?>, Handle<T>> handles = handleMap;
+        if (handles != Collections.<Class<?>, Handle<T>>emptyMap()) return handles;
+        HANDLE_MAP.compareAndSet(this, handles, new ConcurrentHashMap<>());
+        return handleMap;
+    }
+
     @Override
-    public <E extends T> @NotNull List<EventNode<E>> findChildren(@NotNull String name, Class<E> eventType) {
-        synchronized (GLOBAL_CHILD_LOCK) {
-            final Set<EventNode<T>> children = getChildren();
-            if (children.isEmpty()) return List.of();
-            List<EventNode<E>> result = new ArrayList<>();
-            for (EventNode<T> child : children) {
-                if (equals(child, name, eventType)) {
-                    result.add((EventNode<E>) child);
-                }
-                result.addAll(child.findChildren(name, eventType));
+    @SuppressWarnings("unchecked")
+    public void callAll(@NotNull Collection<? extends T> events) {
+        if (events.isEmpty()) return;
+        final Iterator<? extends T> iterator = events.iterator();
+        final Class<?> type = iterator.next().getClass();
+        while (iterator.hasNext()) {
+            if (iterator.next().getClass() != type) {
+                // Mixed types, dispatch one by one
+                for (T event : events) call(event);
+                return;
             }
-            return result;
+        }
+        getHandle((Class<T>) type).callAll(events);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<T> callAsync(@NotNull T event) {
+        return CompletableFuture.supplyAsync(() -> {
+            call(event);
+            return event;
+        }, asyncExecutor());
+    }
+
+    @Override
+    public <E extends T> @NotNull List<EventNode<E>> findChildren(@NotNull String name, Class<E> eventType) {
+        final Tree tree = lockTree();
+        try {
+            return (List<EventNode<E>>) (List<?>) descendants(tree, name, eventType, false);
+        } finally {
+            tree.unlock();
         }
     }
 
     @Contract(pure = true)
     public @NotNull Set<@NotNull EventNode<T>> getChildren() {
-        return Collections.unmodifiableSet(children);
+        // Live view reading the field on each access, the shared empty set is replaced by the first child
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<EventNode<T>> iterator() {
+                return Collections.<EventNode<T>>unmodifiableSet(children).iterator();
+            }
+
+            @Override
+            public int size() {
+                return children.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return children.contains(o);
+            }
+        };
     }
 
     @Override
     public <E extends T> void replaceChildren(@NotNull String name, @NotNull Class<E> eventType, @NotNull EventNode<E> eventNode) {
-        synchronized (GLOBAL_CHILD_LOCK) {
-            final Set<EventNode<T>> children = getChildren();
-            if (children.isEmpty()) return;
-            for (EventNode<T> child : children) {
-                if (equals(child, name, eventType)) {
-                    removeChild(child);
-                    addChild(eventNode);
-                    break;
-                }
-                child.replaceChildren(name, eventType, eventNode);
+        // Both trees are locked in order up-front, addChild only re-enters them
+        checkBatched();
+        final Tree replacementTree = lockTrees((EventNodeImpl<?>) eventNode);
+        final Tree tree = this.tree;
+        try {
+            final List<EventNodeImpl<T>> matches = descendants(tree, name, eventType, true);
+            if (matches.isEmpty()) return;
+            // The replacement can only have a single parent
+            final EventNodeImpl<T> child = matches.get(0);
+            final EventNodeImpl<T> parent = (EventNodeImpl<T>) child.parent;
+            tree.beginBatch();
+            try {
+                parent.removeChild(child);
+                parent.addChild(eventNode);
+            } finally {
+                tree.commitBatch();
             }
+        } finally {
+            replacementTree.unlock();
+            tree.unlock();
         }
     }
 
     @Override
     public void removeChildren(@NotNull String name, @NotNull Class<? extends T> eventType) {
-        synchronized (GLOBAL_CHILD_LOCK) {
-            final Set<EventNode<T>> children = getChildren();
-            if (children.isEmpty()) return;
-            for (EventNode<T> child : children) {
-                if (equals(child, name, eventType)) {
-                    removeChild(child);
-                    continue;
+        final Tree tree = lockMutableTree();
+        try {
+            final List<EventNodeImpl<T>> matches = descendants(tree, name, eventType, true);
+            if (matches.isEmpty()) return;
+            tree.beginBatch();
+            try {
+                for (EventNodeImpl<T> child : matches) {
+                    ((EventNodeImpl<T>) child.parent).removeChild(child);
                 }
-                child.removeChildren(name, eventType);
+            } finally {
+                tree.commitBatch();
+            }
+        } finally {
+            tree.unlock();
+        }
+    }
+
+    /**
+     * Gets the nodes below this one matching {@code name} and {@code eventType} from the name index of the tree,
+     * excluding the children of mapped nodes which are not part of the hierarchy.
+     * The tree lock must be held.
+     *
+     * @param outermost true to skip the matches below another match
+     */
+    private List<EventNodeImpl<T>> descendants(Tree tree, String name, Class<?> eventType, boolean outermost) {
+        final Set<EventNodeImpl<?>> named = tree.named(name);
+        if (named.isEmpty()) return List.of();
+        List<EventNodeImpl<T>> result = new ArrayList<>();
+        candidates:
+        for (EventNodeImpl<?> candidate : named) {
+            if (!equals(candidate, name, eventType)) continue;
+            for (EventNodeImpl<?> node = candidate.parent; node != this; node = node.parent) {
+                if (node == null || node instanceof EventNodeLazyImpl) continue candidates;
+                if (outermost && equals(node, name, eventType)) continue candidates;
             }
+            result.add((EventNodeImpl<T>) candidate);
         }
+        return result;
     }
 
     @Override
     public @NotNull EventNode<T> addChild(@NotNull EventNode<? extends T> child) {
-        synchronized (GLOBAL_CHILD_LOCK) {
-            final var childImpl = (EventNodeImpl<? extends T>) child;
+        final var childImpl = (EventNodeImpl<? extends T>) child;
+        checkBatched();
+        final Tree childTree = lockTrees(childImpl);
+        final Tree tree = this.tree;
+        try {
+            checkMutable();
             Check.stateCondition(childImpl.parent != null, "Node already has a parent");
             Check.stateCondition(Objects.equals(parent, child), "Cannot have a child as parent");
+            if (children == Collections.<EventNodeImpl<T>>emptySet()) children = new CopyOnWriteArraySet<>();
             if (!children.add((EventNodeImpl<T>) childImpl)) return this; // Couldn't add the child (already present?)
             childImpl.parent = this;
-            childImpl.invalidateEventsFor(this);
+            childImpl.moveTo(tree);
+            childTree.invalidate(); // Abandoned, handles built against it must be rebuilt
+            tree.invalidate();
+            if (scope() != null) propagateMapped(childImpl.countListeners(1));
+            mutated("addChild");
+        } finally {
+            childTree.unlock();
+            tree.unlock();
         }
         return this;
     }
 
     @Override
     public @NotNull EventNode<T> removeChild(@NotNull EventNode<? extends T> child) {
-        synchronized (GLOBAL_CHILD_LOCK) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
             final var childImpl = (EventNodeImpl<? extends T>) child;
             final boolean result = this.children.remove(childImpl);
             if (!result) return this; // Child not found
+            if (scope() != null) propagateMapped(childImpl.countListeners(-1));
             childImpl.parent = null;
-            childImpl.invalidateEventsFor(this);
+            childImpl.moveTo(new Tree());
+            tree.invalidate();
+            mutated("removeChild");
+        } finally {
+            tree.unlock();
         }
         return this;
     }
 
     @Override
     public @NotNull EventNode<T> addListener(@NotNull EventListener<? extends T> listener) {
-        synchronized (GLOBAL_CHILD_LOCK) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
             final var eventType = listener.eventType();
             ListenerEntry<T> entry = getEntry(eventType);
-            entry.listeners.add((EventListener<T>) listener);
-            invalidateEvent(eventType);
+            entry.listeners.add(new ListenerSlot<>((EventListener<T>) listener, this, entry));
+            listenersChanged(eventType, 1);
+            mutated("addListener");
+        } finally {
+            tree.unlock();
         }
         return this;
     }
 
     @Override
     public @NotNull EventNode<T> removeListener(@NotNull EventListener<? extends T> listener) {
-        synchronized (GLOBAL_CHILD_LOCK) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
             final var eventType = listener.eventType();
             ListenerEntry<T> entry = listenerMap.get(eventType);
             if (entry == null) return this; // There is no listener with such type
-            if (entry.listeners.remove(listener)) invalidateEvent(eventType);
+            for (ListenerSlot<T> slot : entry.listeners) {
+                if (!slot.dead && slot.listener.equals(listener)) {
+                    tree.kill(slot);
+                    entry.listeners.remove(slot);
+                    listenersChanged(eventType, -1);
+                    mutated("removeListener");
+                    break;
+                }
+            }
+        } finally {
+            tree.unlock();
         }
         return this;
     }
@@ -151,45 +307,150 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
     @Override
     public @NotNull <E extends T, H> EventNode<E> map(@NotNull H value, @NotNull EventFilter<E, H> filter) {
         EventNodeImpl<E> node;
-        synchronized (GLOBAL_CHILD_LOCK) {
+        final Tree tree = lockTree();
+        try {
+            final EventNodeImpl<T> existing = this.mappedNodeCache.get(value);
+            if (existing != null) return (EventNode<E>) existing;
+            checkMutable();
             node = new EventNodeLazyImpl<>(this, value, filter);
             Check.stateCondition(node.parent != null, "Node already has a parent");
             Check.stateCondition(Objects.equals(parent, node), "Cannot map to self");
+            if (mappedNodeCache == Collections.<Object, EventNodeImpl<T>>emptyMap()) mappedNodeCache = weakMap();
             EventNodeImpl<T> previous = this.mappedNodeCache.putIfAbsent(value, (EventNodeImpl<T>) node);
             if (previous != null) return (EventNode<E>) previous;
             node.parent = this;
+            node.tree = tree;
+        } finally {
+            tree.unlock();
         }
         return node;
     }
 
     @Override
     public void unmap(@NotNull Object value) {
-        synchronized (GLOBAL_CHILD_LOCK) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
             final var mappedNode = this.registeredMappedNode.remove(value);
-            if (mappedNode != null) mappedNode.invalidateEventsFor(this);
+            if (mappedNode != null) {
+                updateMapped(mappedNode.countListeners(-1));
+                invalidateScope();
+                mutated("unmap");
+            }
+        } finally {
+            tree.unlock();
+        }
+    }
+
+    @Override
+    public <E extends T> @NotNull EventNode<E> mapInt(int value, @NotNull IntEventFilter<E> filter) {
+        return mapId(false, value, filter);
+    }
+
+    @Override
+    public void unmapInt(int value) {
+        unmapId(intMapping, value);
+    }
+
+    @Override
+    public <E extends T> @NotNull EventNode<E> mapLong(long value, @NotNull LongEventFilter<E> filter) {
+        return mapId(true, value, filter);
+    }
+
+    @Override
+    public void unmapLong(long value) {
+        unmapId(longMapping, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends T> @NotNull EventNode<E> mapId(boolean isLong, long value, @NotNull EventFilter<E, ?> filter) {
+        IdMapping<T> mapping = isLong ? longMapping : intMapping;
+        if (mapping != null) {
+            final EventNodeImpl<T> existing = mapping.nodes.get(value);
+            if (existing != null) return (EventNode<E>) existing;
+        }
+        final Tree tree = lockTree();
+        try {
+            mapping = isLong ? longMapping : intMapping;
+            if (mapping == null) {
+                mapping = new IdMapping<>();
+                if (isLong) {
+                    this.longMapping = mapping;
+                } else {
+                    this.intMapping = mapping;
+                }
+            }
+            final EventNodeImpl<T> existing = mapping.nodes.get(value);
+            if (existing != null) return (EventNode<E>) existing;
+            checkMutable();
+            EventNodeImpl<E> node = new EventNodeLazyImpl<>(this, mapping, value, filter);
+            node.parent = this;
+            node.tree = tree;
+            mapping.nodes.put(value, (EventNodeImpl<T>) node);
+            return node;
+        } finally {
+            tree.unlock();
+        }
+    }
+
+    private void unmapId(@Nullable IdMapping<T> mapping, long value) {
+        if (mapping == null) return;
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
+            final EventNodeImpl<T> node = mapping.nodes.remove(value);
+            if (node == null) return;
+            if (mapping.registered.remove(value) != null) {
+                updateMapped(node.countListeners(-1));
+                invalidateScope();
+                mutated("unmap");
+            }
+            node.parent = null;
+            node.moveTo(new Tree());
+        } finally {
+            tree.unlock();
         }
     }
 
     @Override
     public void register(@NotNull EventBinding<? extends T> binding) {
-        synchronized (GLOBAL_CHILD_LOCK) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
             for (var eventType : binding.eventTypes()) {
                 ListenerEntry<T> entry = getEntry((Class<? extends T>) eventType);
-                final boolean added = entry.bindingConsumers.add((Consumer<T>) binding.consumer(eventType));
-                if (added) invalidateEvent((Class<? extends T>) eventType);
+                final Consumer<T> consumer = (Consumer<T>) binding.consumer(eventType);
+                if (entry.findBinding(consumer) != null) continue;
+                if (entry.bindings == Collections.<ListenerSlot<T>>emptyList()) {
+                    entry.bindings = new CopyOnWriteArrayList<>();
+                }
+                final var listener = new BindingListener<>((Class<T>) eventType, consumer);
+                entry.bindings.add(new ListenerSlot<>(listener, this, entry));
+                listenersChanged(eventType, 1);
+                mutated("register");
             }
+        } finally {
+            tree.unlock();
         }
     }
 
     @Override
     public void unregister(@NotNull EventBinding<? extends T> binding) {
-        synchronized (GLOBAL_CHILD_LOCK) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
             for (var eventType : binding.eventTypes()) {
                 ListenerEntry<T> entry = listenerMap.get(eventType);
                 if (entry == null) return;
-                final boolean removed = entry.bindingConsumers.remove(binding.consumer(eventType));
-                if (removed) invalidateEvent((Class<? extends T>) eventType);
+                final ListenerSlot<T> slot = entry.findBinding(binding.consumer(eventType));
+                if (slot != null && entry.bindings.remove(slot)) {
+                    slot.kill();
+                    listenersChanged(eventType, -1);
+                    mutated("unregister");
+                }
             }
+        } finally {
+            tree.unlock();
         }
     }
 
@@ -210,6 +471,7 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
 
     @Override
     public @NotNull EventNode<T> setPriority(int priority) {
+        checkMutable();
         this.priority = priority;
         return this;
     }
@@ -219,6 +481,241 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
         return parent;
     }
 
+    @Override
+    public @NotNull EventNode<T> batch(@NotNull Consumer<@NotNull EventNode<T>> mutations) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
+            tree.beginBatch();
+            try {
+                mutations.accept(this);
+            } finally {
+                tree.commitBatch();
+            }
+        } finally {
+            tree.unlock();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @Override
+    public @NotNull EventNode<T> setParallel(boolean parallel) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
+            if (this.parallel == parallel) return this;
+            this.parallel = parallel;
+            tree.invalidate();
+            mutated("setParallel");
+        } finally {
+            tree.unlock();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    public @NotNull EventNode<T> freeze() {
+        final Tree tree = lockTree();
+        try {
+            Set<Class<?>> eventTypes = new HashSet<>();
+            forEachNode(node -> {
+                eventTypes.addAll(node.listenerMap.keySet());
+                eventTypes.addAll(node.handleMap.keySet());
+            });
+            forEachNode(node -> node.setFrozen(true));
+            // Build the dispatchers now rather than on the first call
+            forEachNode(node -> node.buildHandles(eventTypes));
+            mutated("freeze");
+        } finally {
+            tree.unlock();
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull EventNode<T> unfreeze() {
+        final Tree tree = lockTree();
+        try {
+            for (EventNodeImpl<?> node = parent; node != null; node = node.parent) {
+                Check.stateCondition(node.frozen, "Cannot unfreeze {0}, its parent {1} is frozen", name, node.name);
+            }
+            forEachNode(node -> node.setFrozen(false));
+            tree.invalidate();
+            mutated("unfreeze");
+        } finally {
+            tree.unlock();
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void buildHandles(Set<Class<?>> eventTypes) {
+        for (Class<?> type : eventTypes) {
+            if (!eventType.isAssignableFrom(type)) continue;
+            final Handle<T> handle = (Handle<T>) getHandle((Class<T>) type);
+            handle.updatedListener();
+            handle.updatedBatchListener();
+        }
+    }
+
+    private void setFrozen(boolean frozen) {
+        this.frozen = frozen;
+        for (Handle<T> handle : handleMap.values()) handle.discard();
+    }
+
+    /**
+     * Records a mutation of this node for the flight recorder.
+     */
+    private void mutated(String operation) {
+        if (!FlightEvents.MUTATION.isEnabled()) return;
+        final FlightEvents.Mutation mutation = new FlightEvents.Mutation();
+        mutation.node = path();
+        mutation.operation = operation;
+        mutation.commit();
+    }
+
+    /**
+     * Rejects the mutations of frozen nodes.
+     */
+    void checkMutable() {
+        Check.stateCondition(frozen, "The node {0} is frozen", name);
+        checkBatched();
+    }
+
+    /**
+     * Rejects the mutations of the nodes outside the graph batched by the current thread, if any.
+     * Checked before waiting for their tree, whether or not it is contended.
+     */
+    private void checkBatched() {
+        final Tree batch = Tree.BATCH.get();
+        Check.stateCondition(batch != null && batch != tree, "The node {0} is not part of the graph being batched", name);
+    }
+
+    /**
+     * Visits this node, its children and its mapped nodes recursively.
+     */
+    private void forEachNode(Consumer<EventNodeImpl<?>> action) {
+        action.accept(this);
+        for (EventNodeImpl<T> child : children) {
+            child.forEachNode(action);
+        }
+        for (EventNodeImpl<T> mappedNode : mappedNodeCache.values()) {
+            mappedNode.forEachNode(action);
+        }
+        for (IdMapping<T> mapping : new IdMapping[]{intMapping, longMapping}) {
+            if (mapping == null) continue;
+            for (EventNodeImpl<T> mappedNode : mapping.nodes.values()) {
+                mappedNode.forEachNode(action);
+            }
+        }
+    }
+
+    @Override
+    public @Nullable Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public @NotNull EventNode<T> setExecutor(@Nullable Executor executor) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
+            this.executor = executor;
+            tree.invalidate();
+            mutated("setExecutor");
+        } finally {
+            tree.unlock();
+        }
+        return this;
+    }
+
+    @Override
+    public @Nullable ShardedEventQueue getQueue() {
+        return queue;
+    }
+
+    @Override
+    public @NotNull EventNode<T> setQueue(@Nullable ShardedEventQueue queue) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
+            this.queue = queue;
+            tree.invalidate();
+            mutated("setQueue");
+        } finally {
+            tree.unlock();
+        }
+        return this;
+    }
+
+    @Override
+    public @Nullable EventMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public @NotNull EventNode<T> setMetricsEnabled(boolean enabled) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
+            if (enabled == (metrics != null)) return this;
+            this.metrics = enabled ? new EventMetrics() : null;
+            tree.invalidate();
+            mutated("setMetricsEnabled");
+        } finally {
+            tree.unlock();
+        }
+        return this;
+    }
+
+    @Override
+    public @Nullable ListenerCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Override
+    public @NotNull EventNode<T> setCircuitBreaker(@Nullable ListenerCircuitBreaker circuitBreaker) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
+            // Applied when a listener fails, consumers do not depend on it
+            this.circuitBreaker = circuitBreaker;
+            mutated("setCircuitBreaker");
+        } finally {
+            tree.unlock();
+        }
+        return this;
+    }
+
+    @Override
+    public @Nullable ListenerWatchdog getWatchdog() {
+        return watchdog;
+    }
+
+    @Override
+    public @NotNull EventNode<T> setWatchdog(@Nullable ListenerWatchdog watchdog) {
+        final Tree tree = lockMutableTree();
+        try {
+            checkMutable();
+            this.watchdog = watchdog;
+            tree.invalidate();
+            mutated("setWatchdog");
+        } finally {
+            tree.unlock();
+        }
+        return this;
+    }
+
     @Override
     public @Nullable Consumer<Throwable> getExceptionHandler() {
         return exceptionHandler;
@@ -235,9 +732,12 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
     }
 
     Graph createGraph() {
-        synchronized (GLOBAL_CHILD_LOCK) {
+        final Tree tree = lockTree();
+        try {
             List<Graph> children = this.children.stream().map(EventNodeImpl::createGraph).toList();
-            return new Graph(getName(), getEventType().getSimpleName(), getPriority(), children);
+            return new Graph(getName(), getEventType().getSimpleName(), getPriority(), metrics, children);
+        } finally {
+            tree.unlock();
         }
     }
 
@@ -250,6 +750,15 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
     private static void genToStringTree(StringBuilder buffer, String prefix, String childrenPrefix, Graph graph) {
         buffer.append(prefix);
         buffer.append(String.format("%s - EventType: %s - Priority: %d", graph.name(), graph.eventType(), graph.priority()));
+        final EventMetrics metrics = graph.metrics();
+        if (metrics != null) {
+            buffer.append(" - ").append(metrics);
+            final String listenerPrefix = childrenPrefix + (graph.children().isEmpty() ? "  " : "│ ") + "  ";
+            for (var entry : metrics.listeners().entrySet()) {
+                buffer.append('\n').append(listenerPrefix).append("* ")
+                        .append(EventMetrics.listenerName(entry.getKey())).append(" - ").append(entry.getValue());
+            }
+        }
         buffer.append('\n');
         var nextNodes = graph.children();
         for (Iterator<? extends @NotNull Graph> iterator = nextNodes.iterator(); iterator.hasNext(); ) {
@@ -262,140 +771,937 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
         }
     }
 
-    record Graph(String name, String eventType, int priority,
+    record Graph(String name, String eventType, int priority, @Nullable EventMetrics metrics,
                  List<Graph> children) {
         public Graph {
             children = children.stream().sorted(Comparator.comparingInt(Graph::priority)).toList();
         }
     }
 
-    void invalidateEventsFor(EventNodeImpl<? super T> node) {
-        assert Thread.holdsLock(GLOBAL_CHILD_LOCK);
-        for (Class<? extends T> eventType : listenerMap.keySet()) {
-            node.invalidateEvent(eventType);
+    /**
+     * Locks the tree of this node to mutate it, see {@link #checkBatched()}.
+     */
+    private Tree lockMutableTree() {
+        checkBatched();
+        return lockTree();
+    }
+
+    /**
+     * Locks the tree this node currently belongs to.
+     * <p>
+     * The tree of a node only changes while its lock is held,
+     * retry until the locked tree is still the one of this node.
+     *
+     * @return the locked tree, to unlock once done
+     */
+    Tree lockTree() {
+        while (true) {
+            final Tree tree = this.tree;
+            tree.acquire(this);
+            if (tree == this.tree) {
+                tree.drainExpired();
+                return tree;
+            }
+            tree.unlock(); // Node moved to another tree while waiting
         }
-        for (EventNodeImpl<T> child : children) {
-            child.invalidateEventsFor(node);
+    }
+
+    /**
+     * Locks both the tree of this node and the one of {@code other}, ordered by id to avoid deadlocks.
+     * Both locks are the same when the nodes share a tree.
+     *
+     * @param other the other node to lock the tree of
+     * @return the locked tree of {@code other}, the tree of this node is also locked
+     */
+    private Tree lockTrees(EventNodeImpl<?> other) {
+        while (true) {
+            final Tree tree = this.tree;
+            final Tree otherTree = other.tree;
+            final Tree first = tree.id < otherTree.id ? tree : otherTree;
+            final Tree second = first == tree ? otherTree : tree;
+            first.acquire(this);
+            try {
+                second.acquire(this);
+            } catch (Throwable e) {
+                first.unlock();
+                throw e;
+            }
+            if (tree == this.tree && otherTree == other.tree) {
+                tree.drainExpired();
+                otherTree.drainExpired();
+                return otherTree;
+            }
+            second.unlock();
+            first.unlock();
         }
     }
 
-    private void invalidateEvent(Class<? extends T> eventClass) {
-        forTargetEvents(eventClass, type -> {
-            Handle<T> handle = handleMap.computeIfAbsent(type,
-                    aClass -> new Handle<>((Class<T>) aClass));
-            handle.invalidate();
-        });
-        final EventNodeImpl<? super T> parent = this.parent;
-        if (parent != null) parent.invalidateEvent(eventClass);
+    /**
+     * Moves this node, its children and its mapped nodes to {@code tree}.
+     * Both the previous and the new tree must be locked, or the new one not visible to other threads yet.
+     */
+    void moveTo(Tree tree) {
+        this.tree.unindex(this);
+        this.tree = tree;
+        if (parent != null && !(this instanceof EventNodeLazyImpl)) tree.index(this);
+        for (EventNodeImpl<T> child : children) {
+            child.moveTo(tree);
+        }
+        for (EventNodeImpl<T> mappedNode : mappedNodeCache.values()) {
+            mappedNode.moveTo(tree);
+        }
+        for (IdMapping<T> mapping : new IdMapping[]{intMapping, longMapping}) {
+            if (mapping == null) continue;
+            for (EventNodeImpl<T> mappedNode : mapping.nodes.values()) {
+                mappedNode.moveTo(tree);
+            }
+        }
     }
 
-    private ListenerEntry<T> getEntry(Class<? extends T> type) {
-        return listenerMap.computeIfAbsent(type, aClass -> new ListenerEntry<>());
+    /**
+     * Gets the executor of the closest node defining one, starting from this node.
+     */
+    private @NotNull Executor asyncExecutor() {
+        for (EventNodeImpl<?> node = this; node != null; node = node.parent) {
+            final Executor executor = node.executor;
+            if (executor != null) return executor;
+        }
+        return EventExecutor.defaultExecutor();
     }
 
-    private static boolean equals(EventNode<?> node, String name, Class<?> eventType) {
-        return node.getName().equals(name) && eventType.isAssignableFrom((node.getEventType()));
+    /**
+     * Gets the watchdog of the closest node defining one, starting from this node.
+     */
+    private @Nullable ListenerWatchdog effectiveWatchdog() {
+        for (EventNodeImpl<?> node = this; node != null; node = node.parent) {
+            final ListenerWatchdog watchdog = node.watchdog;
+            if (watchdog != null) return watchdog;
+        }
+        return null;
     }
 
-    private static void forTargetEvents(Class<?> type, Consumer<Class<?>> consumer) {
-        consumer.accept(type);
-        // Recursion
-        if (RecursiveEvent.class.isAssignableFrom(type)) {
-            final Class<?> superclass = type.getSuperclass();
-            if (superclass != null && RecursiveEvent.class.isAssignableFrom(superclass)) {
-                forTargetEvents(superclass, consumer);
-            }
+    /**
+     * Gets the circuit breaker of the closest node defining one, starting from this node.
+     */
+    private @Nullable ListenerCircuitBreaker effectiveCircuitBreaker() {
+        for (EventNodeImpl<?> node = this; node != null; node = node.parent) {
+            final ListenerCircuitBreaker breaker = node.circuitBreaker;
+            if (breaker != null) return breaker;
         }
+        return null;
     }
 
-    private static class ListenerEntry<T> {
-        final List<EventListener<T>> listeners = new CopyOnWriteArrayList<>();
-        final Set<Consumer<T>> bindingConsumers = new CopyOnWriteArraySet<>();
+    /**
+     * Gets the names of the nodes from the root to this node, separated by {@code /}.
+     */
+    String path() {
+        final EventNodeImpl<?> parent = this.parent;
+        return parent != null ? parent.path() + '/' + name : name;
     }
 
-    @SuppressWarnings("unchecked")
-    final class Handle<E> implements ListenerHandle<E> {
-        private final Class<E> eventType;
-        private Consumer<E> listener = null;
-        private volatile boolean updated;
+    /**
+     * Wraps the consumer built for a handle of this node, before it is given to the parent.
+     * Called under the tree lock.
+     */
+    <E> @Nullable Consumer<E> wrapConsumer(@NotNull Handle<E> handle, @Nullable Consumer<E> consumer) {
+        return consumer;
+    }
 
-        Handle(Class<E> eventType) {
-            this.eventType = eventType;
-        }
+    /**
+     * Batch counterpart of {@link #wrapConsumer(Handle, Consumer)}.
+     */
+    <E> @Nullable Consumer<List<E>> wrapBatchConsumer(@NotNull Handle<E> handle, @Nullable Consumer<List<E>> consumer) {
+        return consumer;
+    }
 
-        @Override
-        public void call(@NotNull E event) {
-            final Consumer<E> listener = updatedListener();
-            if (listener == null) return;
+    /**
+     * Wraps the consumer of this node to be executed on its queue or executor when called from its parent.
+     */
+    @SuppressWarnings("unchecked")
+    private <E> @Nullable Consumer<E> forwardingConsumer(@Nullable Consumer<E> consumer) {
+        if (consumer == null) return null;
+        final ShardedEventQueue queue = this.queue;
+        if (queue != null) {
+            final EventFilter<T, ?> filter = this.filter;
+            return event -> {
+                final Object key;
+                try {
+                    key = filter.getHandler((T) event);
+                } catch (Throwable e) {
+                    handleException(e);
+                    return;
+                }
+                queue.execute(key, () -> acceptSafely(consumer, event));
+            };
+        }
+        final Executor executor = this.executor;
+        if (executor == null) return consumer;
+        return event -> {
             try {
-                listener.accept(event);
-            } catch (Throwable e) {
+                executor.execute(() -> acceptSafely(consumer, event));
+            } catch (RejectedExecutionException e) {
+                // Reported to this node, the following siblings still receive the event
                 handleException(e);
             }
+        };
+    }
+
+    /**
+     * Batch counterpart of {@link #forwardingConsumer(Consumer)}, copying the batches as the caller may reuse them.
+     */
+    @SuppressWarnings("unchecked")
+    private <E> @Nullable Consumer<List<E>> forwardingBatchConsumer(@Nullable Consumer<List<E>> consumer) {
+        if (consumer == null) return null;
+        final ShardedEventQueue queue = this.queue;
+        if (queue != null) {
+            final EventFilter<T, ?> filter = this.filter;
+            return events -> {
+                try {
+                    queue.executeAll(events, event -> filter.getHandler((T) event), batch -> acceptSafely(consumer, batch));
+                } catch (Throwable e) {
+                    handleException(e);
+                }
+            };
         }
+        if (executor == null) return consumer;
+        final Consumer<List<E>> forwarded = forwardingConsumer(consumer);
+        return events -> forwarded.accept(List.copyOf(events));
+    }
 
-        @Override
-        public boolean hasListener() {
-            return updatedListener() != null;
+    private <E> void acceptSafely(Consumer<E> consumer, E event) {
+        try {
+            consumer.accept(event);
+        } catch (Throwable e) {
+            handleException(e);
         }
+    }
 
-        void invalidate() {
-            this.updated = false;
+    private ListenerEntry<T> getEntry(Class<? extends T> type) {
+        assert tree.isHeldByCurrentThread();
+        if (listenerMap == Collections.<Class<? extends T>, ListenerEntry<T>>emptyMap()) {
+            listenerMap = new ConcurrentHashMap<>();
+        }
+        return listenerMap.computeIfAbsent(type, aClass -> new ListenerEntry<>());
+    }
+
+    /**
+     * Gets the mapped nodes having been given a listener, created on the first one. The tree lock must be held.
+     */
+    Map<Object, EventNodeImpl<T>> registeredMappedNodes() {
+        assert tree.isHeldByCurrentThread();
+        if (registeredMappedNode == Collections.<Object, EventNodeImpl<T>>emptyMap()) registeredMappedNode = weakMap();
+        return registeredMappedNode;
+    }
+
+    private static <T> Map<Object, EventNodeImpl<T>> weakMap() {
+        return Caffeine.newBuilder().weakKeys().weakValues().<Object, EventNodeImpl<T>>build().asMap();
+    }
+
+    /**
+     * Gets the closest mapped node from this node to the root, this node included.
+     * Handles built in a mapped node or below it are also invalidated by the epoch of the mapped node.
+     */
+    @Nullable EventNodeLazyImpl<?> scope() {
+        for (EventNodeImpl<?> node = this; node != null; node = node.parent) {
+            if (node instanceof EventNodeLazyImpl<?> mappedNode) return mappedNode;
         }
+        return null;
+    }
 
-        @Nullable Consumer<E> updatedListener() {
-            if (updated) return listener;
-            synchronized (GLOBAL_CHILD_LOCK) {
-                if (updated) return listener;
-                final Consumer<E> listener = createConsumer();
-                this.listener = listener;
-                this.updated = true;
-                return listener;
+    /**
+     * Invalidates the handles of the mapped node containing this node, or of the whole tree outside mapped nodes.
+     * The tree lock must be held.
+     */
+    void invalidateScope() {
+        final EventNodeLazyImpl<?> scope = scope();
+        if (scope != null) {
+            tree.invalidate(scope);
+        } else {
+            tree.invalidate();
+        }
+    }
+
+    /**
+     * Invalidates the handles depending on the listeners of {@code eventType} in this node,
+     * after {@code delta} of them were added or removed. The tree lock must be held.
+     */
+    private void listenersChanged(Class<?> eventType, int delta) {
+        invalidateScope();
+        propagateMapped(Map.of(eventType, delta));
+    }
+
+    /**
+     * Reports the listeners added to or removed from the mapped node containing this node to its holder.
+     */
+    private void propagateMapped(Map<Class<?>, Integer> deltas) {
+        final EventNodeLazyImpl<?> scope = scope();
+        if (scope != null && scope.isRegistered()) scope.holder().updateMapped(deltas);
+    }
+
+    /**
+     * Counts the listeners of the registered mapped nodes below this node, invalidating its handles
+     * only when an event type gains its first listener or loses its last one. The tree lock must be held.
+     * <p>
+     * The listeners of mapped nodes collected while registered are never subtracted,
+     * the holder then keeps routing their event types to no mapped node.
+     */
+    void updateMapped(Map<Class<?>, Integer> deltas) {
+        if (deltas.isEmpty()) return;
+        if (mappedListeners == null) mappedListeners = new HashMap<>();
+        boolean changed = false;
+        for (var delta : deltas.entrySet()) {
+            final int previous = mappedListeners.getOrDefault(delta.getKey(), 0);
+            final int count = previous + delta.getValue();
+            if (count == 0) {
+                mappedListeners.remove(delta.getKey());
+            } else {
+                mappedListeners.put(delta.getKey(), count);
             }
+            changed |= (previous == 0) != (count == 0);
         }
+        if (changed) invalidateScope();
+        propagateMapped(deltas);
+    }
 
-        private @Nullable Consumer<E> createConsumer() {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
-            // Standalone listeners
-            List<Consumer<E>> listeners = new ArrayList<>();
-            forTargetEvents(eventType, type -> {
-                final ListenerEntry<E> entry = node.listenerMap.get(type);
-                if (entry != null) {
-                    final Consumer<E> result = listenersConsumer(entry);
-                    if (result != null) listeners.add(result);
-                }
-            });
-            final Consumer<E>[] listenersArray = listeners.toArray(Consumer[]::new);
-            // Mapped
-            final Consumer<E> mappedListener = mappedConsumer();
-            // Children
-            final Consumer<E>[] childrenListeners = node.children.stream()
-                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
-                    .sorted(Comparator.comparing(EventNode::getPriority))
-                    .map(child -> ((Handle<E>) child.getHandle(eventType)).updatedListener())
-                    .filter(Objects::nonNull)
-                    .toArray(Consumer[]::new);
-            // Empty check
-            final BiPredicate<E, Object> predicate = node.predicate;
-            final EventFilter<E, ?> filter = node.filter;
-            final boolean hasPredicate = predicate != null;
-            final boolean hasListeners = listenersArray.length > 0;
-            final boolean hasMap = mappedListener != null;
-            final boolean hasChildren = childrenListeners.length > 0;
-            if (!hasListeners && !hasMap && !hasChildren) {
-                // No listener
-                return null;
+    /**
+     * Counts the listeners and bindings of this node, its children and their registered mapped nodes by event type.
+     * The tree lock must be held.
+     *
+     * @param sign 1 to count them, -1 to subtract them
+     */
+    Map<Class<?>, Integer> countListeners(int sign) {
+        Map<Class<?>, Integer> counts = new HashMap<>();
+        forEachCounted(node -> {
+            for (var entry : node.listenerMap.entrySet()) {
+                final int count = entry.getValue().listeners.size() + entry.getValue().bindings.size();
+                if (count != 0) counts.merge(entry.getKey(), sign * count, Integer::sum);
             }
-            return e -> {
-                // Filtering
-                if (hasPredicate) {
-                    final Object value = filter.getHandler(e);
-                    if (!predicate.test(e, value)) return;
-                }
-                // Normal listeners
-                if (hasListeners) {
-                    for (Consumer<E> listener : listenersArray) {
-                        listener.accept(e);
+            if (node.mappedListeners != null) {
+                node.mappedListeners.forEach((type, count) -> counts.merge(type, sign * count, Integer::sum));
+            }
+        });
+        return counts;
+    }
+
+    private void forEachCounted(Consumer<EventNodeImpl<?>> action) {
+        action.accept(this);
+        for (EventNodeImpl<T> child : children) child.forEachCounted(action);
+    }
+
+    /**
+     * Gets the primitive handler of a filter given to {@link #mapInt(int, IntEventFilter)} or {@link #mapLong(long, LongEventFilter)}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> ToLongFunction<E> idKey(EventFilter<E, ?> filter) {
+        if (filter instanceof IntEventFilter) {
+            final IntEventFilter<E> intFilter = (IntEventFilter<E>) filter;
+            return intFilter::getIntHandler;
+        }
+        final LongEventFilter<E> longFilter = (LongEventFilter<E>) filter;
+        return longFilter::getLongHandler;
+    }
+
+    /**
+     * Creates a consumer forking {@code parallel} in the current {@link ForkJoinPool} or the common one,
+     * running {@code sequential} in order and then waiting for the forked consumers.
+     * Without sequential consumers, the last parallel one runs in the calling thread.
+     */
+    private static <X> Consumer<X> forkingConsumer(Consumer<X>[] parallel, Consumer<X>[] sequential) {
+        final int forkCount = sequential.length == 0 ? parallel.length - 1 : parallel.length;
+        return x -> {
+            final ForkJoinTask<?>[] tasks = new ForkJoinTask[forkCount];
+            for (int i = 0; i < forkCount; i++) {
+                final Consumer<X> consumer = parallel[i];
+                tasks[i] = ForkJoinTask.adapt(() -> consumer.accept(x)).fork();
+            }
+            try {
+                if (forkCount < parallel.length) parallel[forkCount].accept(x);
+                for (Consumer<X> consumer : sequential) consumer.accept(x);
+            } finally {
+                for (ForkJoinTask<?> task : tasks) task.join();
+            }
+        };
+    }
+
+    private static boolean equals(EventNode<?> node, String name, Class<?> eventType) {
+        return node.getName().equals(name) && eventType.isAssignableFrom((node.getEventType()));
+    }
+
+    /**
+     * Lock shared by all the nodes of a graph, from its root to its children and mapped nodes.
+     * <p>
+     * Unrelated graphs never contend with each other, a node switches tree when attached or detached.
+     * <p>
+     * The epoch is increased by every mutation of the graph, handles compare it
+     * to the one they were built against to know if they have to be rebuilt.
+     * Listeners added to or removed from a mapped node only increase the epoch of the mapped node,
+     * so that per-owner listeners do not rebuild the rest of the graph.
+     */
+    static final class Tree extends ReentrantLock {
+        private static final AtomicLong ID_COUNTER = new AtomicLong();
+        /**
+         * Tree of the batch running on the current thread, locked while the mutations of the batch run.
+         * Mutations of other trees are rejected meanwhile without waiting for their lock,
+         * another thread could hold it while waiting for this one.
+         */
+        private static final ThreadLocal<Tree> BATCH = new ThreadLocal<>();
+        private static final int EXPIRED_THRESHOLD = 64;
+        private static final VarHandle EPOCH;
+
+        static {
+            try {
+                EPOCH = MethodHandles.lookup().findVarHandle(Tree.class, "epoch", long.class);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        final long id = ID_COUNTER.incrementAndGet();
+        /**
+         * Increased under the lock, except by {@link #expire(ListenerSlot)} which may run from any thread.
+         */
+        volatile long epoch;
+        /**
+         * Depth of the running {@link EventNode#batch(Consumer)}, guarded by the lock.
+         * Invalidations only mark the tree dirty while positive.
+         */
+        private int batchDepth;
+        private boolean dirty;
+        /**
+         * Slots removed during the batch, killed once it is committed.
+         */
+        private List<ListenerSlot<?>> batchKills;
+        /**
+         * Nodes of the tree having a parent by name, mapped nodes excluded. Guarded by the lock, created on the first child.
+         */
+        private Map<String, Set<EventNodeImpl<?>>> names;
+        private final Queue<ListenerSlot<?>> expired = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger expiredCount = new AtomicInteger();
+
+        /**
+         * Locks the tree, recording the wait if the lock is held by another thread.
+         */
+        void acquire(EventNodeImpl<?> node) {
+            if (tryLock()) return;
+            if (!FlightEvents.LOCK_WAIT.isEnabled()) {
+                lock();
+                return;
+            }
+            final FlightEvents.LockWait event = new FlightEvents.LockWait();
+            event.begin();
+            lock();
+            event.end();
+            if (event.shouldCommit()) {
+                event.node = node.path();
+                event.commit();
+            }
+        }
+
+        void invalidate() {
+            assert isHeldByCurrentThread();
+            if (batchDepth > 0) {
+                dirty = true;
+                return;
+            }
+            EPOCH.getAndAdd(this, 1L);
+        }
+
+        /**
+         * Invalidates the handles of a mapped node and of the nodes below it,
+         * the whole tree once the running batch is committed.
+         */
+        void invalidate(EventNodeLazyImpl<?> scope) {
+            assert isHeldByCurrentThread();
+            if (batchDepth > 0) {
+                dirty = true;
+                return;
+            }
+            scope.invalidate();
+        }
+
+        /**
+         * Called under the lock, or before a detached tree is published.
+         */
+        void index(EventNodeImpl<?> node) {
+            if (names == null) names = new HashMap<>();
+            names.computeIfAbsent(node.name, name -> new LinkedHashSet<>()).add(node);
+        }
+
+        void unindex(EventNodeImpl<?> node) {
+            if (names == null) return;
+            final Set<EventNodeImpl<?>> nodes = names.get(node.name);
+            if (nodes != null && nodes.remove(node) && nodes.isEmpty()) names.remove(node.name);
+        }
+
+        Set<EventNodeImpl<?>> named(String name) {
+            assert isHeldByCurrentThread();
+            return names != null ? names.getOrDefault(name, Set.of()) : Set.of();
+        }
+
+        void beginBatch() {
+            assert isHeldByCurrentThread();
+            final Tree current = BATCH.get();
+            Check.stateCondition(current != null && current != this, "Cannot batch two graphs at once");
+            if (batchDepth++ == 0) BATCH.set(this);
+        }
+
+        /**
+         * Ends a batch, invalidating the tree once if it was mutated when the outermost batch ends.
+         */
+        void commitBatch() {
+            assert isHeldByCurrentThread();
+            if (--batchDepth > 0) return;
+            BATCH.remove();
+            if (dirty) {
+                dirty = false;
+                EPOCH.getAndAdd(this, 1L);
+            }
+            final List<ListenerSlot<?>> kills = batchKills;
+            if (kills != null) {
+                batchKills = null;
+                for (ListenerSlot<?> slot : kills) slot.kill();
+            }
+        }
+
+        /**
+         * Kills a slot removed from its entry, deferred to the end of the running batch.
+         */
+        void kill(ListenerSlot<?> slot) {
+            assert isHeldByCurrentThread();
+            if (batchDepth == 0) {
+                slot.kill();
+                return;
+            }
+            if (batchKills == null) batchKills = new ArrayList<>();
+            batchKills.add(slot);
+        }
+
+        /**
+         * Queues a killed slot for removal, done at the next acquisition of the lock
+         * or once {@link #EXPIRED_THRESHOLD} slots are pending.
+         */
+        void expire(ListenerSlot<?> slot) {
+            expired.add(slot);
+            // Handles stop reporting the listeners of the entry right away instead of once drained,
+            // rebuilds skip the slot as it is already dead. Holders of mapped nodes only do once drained.
+            if (!slot.entry.hasLiveListener()) {
+                final EventNodeLazyImpl<?> scope = slot.node.scope();
+                if (scope != null) {
+                    scope.invalidate();
+                } else {
+                    EPOCH.getAndAdd(this, 1L);
+                }
+            }
+            if (expiredCount.incrementAndGet() >= EXPIRED_THRESHOLD && tryLock()) {
+                try {
+                    drainExpired();
+                } finally {
+                    unlock();
+                }
+            }
+        }
+
+        /**
+         * Removes the pending killed slots, invalidating the nodes they were removed from.
+         * Skipped by nested acquisitions, the lock holder may be iterating the graph.
+         */
+        void drainExpired() {
+            assert isHeldByCurrentThread();
+            if (expiredCount.get() == 0 || getHoldCount() != 1) return;
+            Map<ListenerEntry<?>, Set<ListenerSlot<?>>> removals = new IdentityHashMap<>();
+            ListenerSlot<?> slot;
+            while ((slot = expired.poll()) != null) {
+                expiredCount.decrementAndGet();
+                final Tree current = slot.node.tree;
+                if (current != this) {
+                    // Node moved since it expired
+                    current.expire(slot);
+                    continue;
+                }
+                removals.computeIfAbsent(slot.entry, e -> Collections.newSetFromMap(new IdentityHashMap<>())).add(slot);
+            }
+            for (var removal : removals.entrySet()) {
+                final List<? extends ListenerSlot<?>> listeners = removal.getKey().listeners;
+                final int size = listeners.size();
+                if (!listeners.removeAll(removal.getValue())) continue;
+                final ListenerSlot<?> removed = removal.getValue().iterator().next();
+                removed.node.listenersChanged(removed.listener.eventType(), listeners.size() - size);
+            }
+        }
+    }
+
+    /**
+     * Nodes mapped to primitive values of the same kind, held strongly until unmapped.
+     */
+    static final class IdMapping<T> {
+        final Map<Long, EventNodeImpl<T>> nodes = new ConcurrentHashMap<>();
+        /**
+         * Nodes having been given a listener, the only ones events are routed to.
+         */
+        final Map<Long, EventNodeImpl<T>> registered = new ConcurrentHashMap<>();
+    }
+
+    static class ListenerEntry<T> {
+        final List<ListenerSlot<T>> listeners = new CopyOnWriteArrayList<>();
+        /**
+         * Slots of the {@link BindingListener}s, replaced by a concurrent list on the first binding, under the tree lock.
+         */
+        volatile List<ListenerSlot<T>> bindings = Collections.emptyList();
+
+        boolean hasLiveListener() {
+            for (ListenerSlot<T> slot : listeners) {
+                if (!slot.dead) return true;
+            }
+            return !bindings.isEmpty();
+        }
+
+        @Nullable ListenerSlot<T> findBinding(@NotNull Consumer<?> consumer) {
+            for (ListenerSlot<T> slot : bindings) {
+                if (((BindingListener<T>) slot.listener).consumer().equals(consumer)) return slot;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Runs the consumer of an {@link EventBinding} for one of its event types,
+     * so that bindings are isolated and counted by circuit breakers like other listeners.
+     */
+    record BindingListener<T>(@NotNull Class<T> eventType, @NotNull Consumer<T> consumer) implements EventListener<T> {
+        @Override
+        public @NotNull Result run(@NotNull T event) {
+            consumer.accept(event);
+            return Result.SUCCESS;
+        }
+    }
+
+    /**
+     * Registration of a listener in a node.
+     * <p>
+     * Killed as soon as the listener expires or is removed, consumers built before
+     * its removal skip it without waiting for their rebuild.
+     */
+    static final class ListenerSlot<T> {
+        private static final VarHandle DEAD;
+        private static final VarHandle FAILURES;
+
+        static {
+            try {
+                DEAD = MethodHandles.lookup().findVarHandle(ListenerSlot.class, "dead", boolean.class);
+                FAILURES = MethodHandles.lookup().findVarHandle(ListenerSlot.class, "failures", int.class);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        final EventListener<T> listener;
+        final EventNodeImpl<?> node;
+        final ListenerEntry<T> entry;
+        volatile boolean dead;
+        /**
+         * Consecutive failures of the listener, counted by {@link ListenerCircuitBreaker}.
+         */
+        volatile int failures;
+        /**
+         * {@link System#nanoTime()} at which the listener disabled by its circuit breaker is called again, 0 if enabled.
+         */
+        volatile long disabledUntil;
+
+        ListenerSlot(EventListener<T> listener, EventNodeImpl<?> node, ListenerEntry<T> entry) {
+            this.listener = listener;
+            this.node = node;
+            this.entry = entry;
+        }
+
+        /**
+         * @return true if the slot was alive
+         */
+        boolean kill() {
+            if (!DEAD.compareAndSet(this, false, true)) return false;
+            final EventMetrics metrics = node.metrics;
+            if (metrics != null) metrics.removed(this);
+            return true;
+        }
+
+        /**
+         * Gets if the listener has to be called, neither dead nor disabled.
+         * Also called from the method handles of {@link DispatcherCompiler}.
+         */
+        boolean callable() {
+            if (dead) return false;
+            final long until = disabledUntil;
+            if (until == 0) return true;
+            if (System.nanoTime() - until < 0) return false;
+            // Cool-down elapsed, the failure count is kept so that the next failure disables it again
+            this.disabledUntil = 0;
+            return true;
+        }
+
+        int failed() {
+            return (int) FAILURES.getAndAdd(this, 1) + 1;
+        }
+
+        void succeeded() {
+            if (failures != 0) failures = 0;
+        }
+
+        void disable(long nanos) {
+            final long until = System.nanoTime() + nanos;
+            this.disabledUntil = until != 0 ? until : 1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    final class Handle<E> implements ListenerHandle<E> {
+        private final Class<E> eventType;
+        private Snapshot<E> snapshot;
+        private Snapshot<List<E>> batchSnapshot;
+        /**
+         * If a cancelled event still has to reach the consumer of {@link #snapshot}, written with it.
+         * Only read by parents and holders while building, under the tree lock.
+         */
+        private boolean receivesCancelled = true;
+
+        Handle(Class<E> eventType) {
+            this.eventType = eventType;
+        }
+
+        @Override
+        public void call(@NotNull E event) {
+            final Consumer<E> listener = updatedListener();
+            if (listener == null) return;
+            dispatch(listener, event);
+        }
+
+        @Override
+        public void call(@NotNull Supplier<? extends E> supplier) {
+            final Consumer<E> listener = updatedListener();
+            if (listener == null) return;
+            dispatch(listener, supplier.get());
+        }
+
+        private void dispatch(Consumer<E> listener, E event) {
+            if (FlightEvents.DISPATCH.isEnabled()) {
+                recordedCall(listener, event);
+                return;
+            }
+            try {
+                listener.accept(event);
+            } catch (Throwable e) {
+                handleException(e);
+            }
+        }
+
+        private void recordedCall(Consumer<E> listener, E event) {
+            final FlightEvents.Dispatch dispatch = new FlightEvents.Dispatch();
+            dispatch.begin();
+            try {
+                listener.accept(event);
+            } catch (Throwable e) {
+                handleException(e);
+            }
+            dispatch.end();
+            if (dispatch.shouldCommit()) {
+                dispatch.eventType = event.getClass();
+                dispatch.node = path();
+                dispatch.count = 1;
+                dispatch.commit();
+            }
+        }
+
+        private void recordedBatchCall(Consumer<List<E>> listener, List<E> events) {
+            final FlightEvents.Dispatch dispatch = new FlightEvents.Dispatch();
+            dispatch.begin();
+            try {
+                listener.accept(events);
+            } catch (Throwable e) {
+                handleException(e);
+            }
+            dispatch.end();
+            if (dispatch.shouldCommit()) {
+                dispatch.eventType = eventType;
+                dispatch.node = path();
+                dispatch.count = events.size();
+                dispatch.commit();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void callAll(@NotNull Collection<? extends E> events) {
+            if (events.isEmpty()) return;
+            for (E event : events) {
+                if (event.getClass() != eventType) {
+                    // Not of the exact type, dispatched one by one through their own handles
+                    for (E e : events) EventNodeImpl.this.call((T) e);
+                    return;
+                }
+            }
+            final Consumer<List<E>> listener = updatedBatchListener();
+            if (listener == null) return;
+            final List<E> batch = events instanceof List<?> list ? (List<E>) list : new ArrayList<>(events);
+            if (FlightEvents.DISPATCH.isEnabled()) {
+                recordedBatchCall(listener, batch);
+                return;
+            }
+            try {
+                listener.accept(batch);
+            } catch (Throwable e) {
+                handleException(e);
+            }
+        }
+
+        @Override
+        public boolean hasListener() {
+            return updatedListener() != null;
+        }
+
+        @Nullable Consumer<E> updatedListener() {
+            final Snapshot<E> snapshot = this.snapshot;
+            if (snapshot != null && snapshot.isValid()) return snapshot.listener();
+            final Tree tree = lockTree();
+            try {
+                final Snapshot<E> current = this.snapshot;
+                if (current != null && current.isValid(tree)) return current.listener();
+                // Read first, an expiry while building invalidates the snapshot
+                final long epoch = tree.epoch;
+                final EventNodeLazyImpl<?> scope = scope();
+                final long scopeEpoch = scope != null ? scope.epoch : 0;
+                final FlightEvents.Rebuild rebuild = beginRebuild();
+                final Consumer<E> listener = wrapConsumer(this, measuredConsumer(createConsumer()));
+                this.receivesCancelled = listener != null && computeReceivesCancelled();
+                if (rebuild != null) commitRebuild(rebuild, false);
+                this.snapshot = new Snapshot<>(tree, frozen ? Snapshot.FROZEN : epoch, scope, scopeEpoch, listener);
+                return listener;
+            } finally {
+                tree.unlock();
+            }
+        }
+
+        @Nullable Consumer<List<E>> updatedBatchListener() {
+            final Snapshot<List<E>> snapshot = this.batchSnapshot;
+            if (snapshot != null && snapshot.isValid()) return snapshot.listener();
+            final Tree tree = lockTree();
+            try {
+                final Snapshot<List<E>> current = this.batchSnapshot;
+                if (current != null && current.isValid(tree)) return current.listener();
+                final long epoch = tree.epoch;
+                final EventNodeLazyImpl<?> scope = scope();
+                final long scopeEpoch = scope != null ? scope.epoch : 0;
+                final FlightEvents.Rebuild rebuild = beginRebuild();
+                final Consumer<List<E>> listener = wrapBatchConsumer(this, measuredBatchConsumer(createBatchConsumer()));
+                if (rebuild != null) commitRebuild(rebuild, true);
+                this.batchSnapshot = new Snapshot<>(tree, frozen ? Snapshot.FROZEN : epoch, scope, scopeEpoch, listener);
+                return listener;
+            } finally {
+                tree.unlock();
+            }
+        }
+
+        private @Nullable FlightEvents.Rebuild beginRebuild() {
+            if (!FlightEvents.REBUILD.isEnabled()) return null;
+            final FlightEvents.Rebuild rebuild = new FlightEvents.Rebuild();
+            rebuild.begin();
+            return rebuild;
+        }
+
+        private void commitRebuild(FlightEvents.Rebuild rebuild, boolean batch) {
+            rebuild.end();
+            if (!rebuild.shouldCommit()) return;
+            rebuild.eventType = eventType;
+            rebuild.node = path();
+            rebuild.batch = batch;
+            rebuild.commit();
+        }
+
+        /**
+         * Drops the snapshots, rebuilt on their next use. Called under the tree lock.
+         */
+        void discard() {
+            this.snapshot = null;
+            this.batchSnapshot = null;
+        }
+
+        /**
+         * Records the node statistics and rebuild when metrics are enabled.
+         */
+        private @Nullable Consumer<E> measuredConsumer(@Nullable Consumer<E> consumer) {
+            final EventMetrics metrics = EventNodeImpl.this.metrics;
+            if (metrics == null) return consumer;
+            metrics.rebuilt();
+            if (consumer == null) return null;
+            final EventMetrics.Stats stats = metrics.node();
+            return e -> {
+                final long start = System.nanoTime();
+                try {
+                    consumer.accept(e);
+                } finally {
+                    stats.record(System.nanoTime() - start);
+                }
+            };
+        }
+
+        private @Nullable Consumer<List<E>> measuredBatchConsumer(@Nullable Consumer<List<E>> consumer) {
+            final EventMetrics metrics = EventNodeImpl.this.metrics;
+            if (metrics == null) return consumer;
+            metrics.rebuilt();
+            if (consumer == null) return null;
+            final EventMetrics.Stats stats = metrics.node();
+            final EventMetrics.Stats batches = metrics.batches();
+            return events -> {
+                final long start = System.nanoTime();
+                try {
+                    consumer.accept(events);
+                } finally {
+                    final long duration = System.nanoTime() - start;
+                    stats.record(duration, events.size());
+                    batches.record(duration);
+                }
+            };
+        }
+
+        private @Nullable Consumer<E> createConsumer() {
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            // Standalone listeners
+            final List<ListenerEntry<E>> entries = targetEntries();
+            // Mapped
+            final Consumer<E> mappedListener = mappedConsumer();
+            // Children
+            final List<EventNodeImpl<E>> children = targetChildren();
+            if (CancellableEvent.class.isAssignableFrom(eventType)) {
+                final Consumer<E> cancellable = cancellableConsumer(entries, mappedListener, children);
+                if (cancellable != null) return cancellable;
+            }
+            final Consumer<E>[] childrenListeners = childrenConsumers(children,
+                    child -> child.forwardingConsumer(((Handle<E>) child.getHandle(eventType)).updatedListener()));
+            if (DispatcherCompiler.ENABLED || frozen) {
+                final Consumer<E> compiled = compiledConsumer(entries, mappedListener, childrenListeners);
+                if (compiled != null) return compiled;
+            }
+            List<Consumer<E>> listeners = new ArrayList<>();
+            for (ListenerEntry<E> entry : entries) {
+                final Consumer<E> result = listenersConsumer(entry);
+                if (result != null) listeners.add(result);
+            }
+            final Consumer<E>[] listenersArray = listeners.toArray(Consumer[]::new);
+            // Empty check
+            final BiPredicate<E, Object> predicate = node.predicate;
+            final EventFilter<E, ?> filter = node.filter;
+            final boolean hasPredicate = predicate != null;
+            final boolean hasListeners = listenersArray.length > 0;
+            final boolean hasMap = mappedListener != null;
+            final boolean hasChildren = childrenListeners.length > 0;
+            if (!hasListeners && !hasMap && !hasChildren) {
+                // No listener
+                return null;
+            }
+            return e -> {
+                // Filtering
+                if (hasPredicate && !test(predicate, filter, e)) return;
+                // Normal listeners
+                if (hasListeners) {
+                    for (Consumer<E> listener : listenersArray) {
+                        listener.accept(e);
                     }
                 }
                 // Mapped nodes
@@ -409,6 +1715,267 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
             };
         }
 
+        /**
+         * Create a consumer for {@link CancellableEvent} types, jumping over the listeners and subtrees
+         * ignoring cancelled events as soon as the event is cancelled.
+         * <p>
+         * Cancellation is checked before every step, a listener receiving cancelled events can still un-cancel it.
+         *
+         * @return the consumer, null if no step can be skipped
+         */
+        private @Nullable Consumer<E> cancellableConsumer(List<ListenerEntry<E>> entries,
+                                                          @Nullable Consumer<E> mappedListener,
+                                                          List<EventNodeImpl<E>> children) {
+            final Instrumentation instrumentation = instrumentation();
+            List<Consumer<E>> steps = new ArrayList<>();
+            BitSet receivers = new BitSet();
+            for (ListenerEntry<E> entry : entries) {
+                for (ListenerSlot<E> slot : entry.listeners) {
+                    if (slot.dead) continue;
+                    if (!slot.listener.ignoreCancelled()) receivers.set(steps.size());
+                    if (instrumentation != null) {
+                        final Probe<E> probe = new Probe<>(slot, instrumentation);
+                        steps.add(e -> callListener(probe, e));
+                    } else {
+                        steps.add(e -> callListener(slot, e));
+                    }
+                }
+                for (ListenerSlot<E> binding : entry.bindings) {
+                    receivers.set(steps.size());
+                    if (instrumentation != null) {
+                        final Probe<E> probe = new Probe<>(binding, instrumentation);
+                        steps.add(e -> callListener(probe, e));
+                    } else {
+                        steps.add(e -> callListener(binding, e));
+                    }
+                }
+            }
+            if (mappedListener != null) {
+                // Mapped nodes skip their own listeners ignoring cancelled events
+                receivers.set(steps.size());
+                steps.add(mappedListener);
+            }
+            for (EventNodeImpl<E> child : children) {
+                final Handle<E> handle = (Handle<E>) child.getHandle(eventType);
+                final Consumer<E> consumer = child.forwardingConsumer(handle.updatedListener());
+                if (consumer == null) continue;
+                if (handle.receivesCancelled) receivers.set(steps.size());
+                steps.add(consumer);
+            }
+            final int count = steps.size();
+            if (receivers.cardinality() == count) return null; // Nothing to skip
+            final Consumer<E>[] stepsArray = steps.toArray(Consumer[]::new);
+            // Index of the first step from i still receiving cancelled events, count if none
+            final int[] next = new int[count];
+            int following = count;
+            for (int i = count - 1; i >= 0; i--) {
+                if (receivers.get(i)) following = i;
+                next[i] = following;
+            }
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            final BiPredicate<E, Object> predicate = node.predicate;
+            final EventFilter<E, ?> filter = node.filter;
+            return e -> {
+                if (predicate != null && !test(predicate, filter, e)) return;
+                final CancellableEvent cancellable = (CancellableEvent) e;
+                int i = 0;
+                while (i < count) {
+                    if (cancellable.isCancelled() && (i = next[i]) == count) return;
+                    stepsArray[i++].accept(e);
+                }
+            };
+        }
+
+        /**
+         * Gets if a cancelled event still has to reach this handle, always true for other events.
+         * Mapped nodes and children must already be up-to-date.
+         */
+        private boolean computeReceivesCancelled() {
+            if (!CancellableEvent.class.isAssignableFrom(eventType)) return true;
+            for (ListenerEntry<E> entry : targetEntries()) {
+                if (!entry.bindings.isEmpty()) return true;
+                for (ListenerSlot<E> slot : entry.listeners) {
+                    if (slot.dead) continue;
+                    if (!slot.listener.ignoreCancelled()) return true;
+                }
+            }
+            if (mappedListens()) return true;
+            for (EventNodeImpl<E> child : targetChildren()) {
+                final Handle<E> handle = (Handle<E>) child.getHandle(eventType);
+                if (handle.updatedListener() != null && handle.receivesCancelled) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Gets if a registered mapped node may have a listener for the event type.
+         * Mapped nodes are not built with this handle, only the appearance of such a listener invalidates it.
+         */
+        private boolean mappedListens() {
+            final Map<Class<?>, Integer> mappedListeners = EventNodeImpl.this.mappedListeners;
+            if (mappedListeners == null) return false;
+            for (Class<?> type : EventHierarchy.targets(eventType)) {
+                if (mappedListeners.containsKey(type)) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Gets the consumers of the children, in priority order.
+         * <p>
+         * Parallel children are merged into a single consumer forking them, running the sequential children
+         * and then joining the forked ones. Events which can be cancelled are always dispatched sequentially.
+         *
+         * @param consumerGetter gets the consumer of a child, null if it has nothing to call
+         */
+        private <X> Consumer<X>[] childrenConsumers(List<EventNodeImpl<E>> children,
+                                                    Function<EventNodeImpl<E>, @Nullable Consumer<X>> consumerGetter) {
+            final boolean cancellable = CancellableEvent.class.isAssignableFrom(eventType);
+            List<Consumer<X>> sequential = new ArrayList<>();
+            List<Consumer<X>> parallel = new ArrayList<>();
+            for (EventNodeImpl<E> child : children) {
+                final Consumer<X> consumer = consumerGetter.apply(child);
+                if (consumer == null) continue;
+                if (cancellable || !child.parallel || child.executor != null || child.queue != null) {
+                    sequential.add(consumer);
+                    continue;
+                }
+                // Forked, its exceptions cannot reach the caller
+                parallel.add(x -> {
+                    try {
+                        consumer.accept(x);
+                    } catch (Throwable e) {
+                        child.handleException(e);
+                    }
+                });
+            }
+            if (parallel.isEmpty()) return sequential.toArray(Consumer[]::new);
+            if (parallel.size() == 1 && sequential.isEmpty()) return parallel.toArray(Consumer[]::new);
+            final Consumer<X>[] parallelArray = parallel.toArray(Consumer[]::new);
+            final Consumer<X>[] sequentialArray = sequential.toArray(Consumer[]::new);
+            return new Consumer[]{forkingConsumer(parallelArray, sequentialArray)};
+        }
+
+        /**
+         * Gets the listener entries of the event type and of its recursive supertypes.
+         */
+        private List<ListenerEntry<E>> targetEntries() {
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            List<ListenerEntry<E>> entries = new ArrayList<>();
+            for (Class<?> type : EventHierarchy.targets(eventType)) {
+                final ListenerEntry<E> entry = node.listenerMap.get(type);
+                if (entry != null) entries.add(entry);
+            }
+            return entries;
+        }
+
+        /**
+         * Gets the children accepting the event type, by priority.
+         */
+        private List<EventNodeImpl<E>> targetChildren() {
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            return node.children.stream()
+                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
+                    .sorted(Comparator.comparing(EventNode::getPriority))
+                    .toList();
+        }
+
+        /**
+         * Create a consumer dispatching a batch of events with the same semantic as {@link #createConsumer()}.
+         * <p>
+         * Listeners and bindings are called listener-major, each of them receiving the whole batch before the next one.
+         * As for a single event, the listeners and then the bindings of each targeted type are called in turn.
+         * Mapped nodes route every event separately and asynchronous children receive a copy of the batch.
+         * The order in which a single event reaches listeners is unchanged.
+         */
+        private @Nullable Consumer<List<E>> createBatchConsumer() {
+            List<ListenerSlot<E>> listeners = new ArrayList<>();
+            for (ListenerEntry<E> entry : targetEntries()) {
+                for (ListenerSlot<E> slot : entry.listeners) {
+                    if (!slot.dead) listeners.add(slot);
+                }
+                for (ListenerSlot<E> slot : entry.bindings) {
+                    if (!slot.dead) listeners.add(slot);
+                }
+            }
+            final ListenerSlot<E>[] listenersArray = listeners.toArray(ListenerSlot[]::new);
+            final Consumer<E> mappedListener = mappedConsumer();
+            final Consumer<List<E>>[] childrenListeners = childrenConsumers(targetChildren(),
+                    child -> child.forwardingBatchConsumer(((Handle<E>) child.getHandle(eventType)).updatedBatchListener()));
+            if (listenersArray.length == 0 && mappedListener == null && childrenListeners.length == 0) {
+                return null;
+            }
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            final BiPredicate<E, Object> predicate = node.predicate;
+            final EventFilter<E, ?> filter = node.filter;
+            final Probe<E>[] probes = probes(listenersArray);
+            return events -> {
+                List<E> accepted = events;
+                if (predicate != null) {
+                    accepted = new ArrayList<>(events.size());
+                    for (E event : events) {
+                        if (test(predicate, filter, event)) accepted.add(event);
+                    }
+                    if (accepted.isEmpty()) return;
+                }
+                for (int i = 0; i < listenersArray.length; i++) {
+                    for (E event : accepted) {
+                        final boolean alive = probes != null ?
+                                callListener(probes[i], event) :
+                                callListener(listenersArray[i], event);
+                        if (!alive) break; // Expired
+                    }
+                }
+                if (mappedListener != null) {
+                    for (E event : accepted) mappedListener.accept(event);
+                }
+                for (Consumer<List<E>> child : childrenListeners) {
+                    child.accept(accepted);
+                }
+            };
+        }
+
+        /**
+         * Create a consumer calling every listener, mapped node and child through a single combined method handle.
+         *
+         * @return the compiled consumer, null if there is nothing to call or too much to compile
+         * @see DispatcherCompiler
+         */
+        private @Nullable Consumer<E> compiledConsumer(List<ListenerEntry<E>> entries,
+                                                       @Nullable Consumer<E> mappedListener,
+                                                       Consumer<E>[] childrenListeners) {
+            final Instrumentation instrumentation = instrumentation();
+            DispatcherCompiler.Builder<E> builder = new DispatcherCompiler.Builder<>(this);
+            for (ListenerEntry<E> entry : entries) {
+                for (ListenerSlot<E> slot : entry.listeners) {
+                    if (!slot.dead) compiledListener(builder, slot, instrumentation);
+                }
+                for (ListenerSlot<E> binding : entry.bindings) compiledListener(builder, binding, instrumentation);
+            }
+            if (mappedListener != null) builder.consumer(mappedListener);
+            for (Consumer<E> childListener : childrenListeners) builder.consumer(childListener);
+            if (builder.isEmpty()) return null;
+            final Consumer<E> compiled = builder.build();
+            if (compiled == null) return null;
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            final BiPredicate<E, Object> predicate = node.predicate;
+            if (predicate == null) return compiled;
+            final EventFilter<E, ?> filter = node.filter;
+            return e -> {
+                if (test(predicate, filter, e)) compiled.accept(e);
+            };
+        }
+
+        private void compiledListener(DispatcherCompiler.Builder<E> builder, ListenerSlot<E> slot,
+                                      @Nullable Instrumentation instrumentation) {
+            if (instrumentation == null) {
+                builder.listener(slot);
+            } else {
+                final Probe<E> probe = new Probe<>(slot, instrumentation);
+                builder.consumer(e -> callListener(probe, e));
+            }
+        }
+
         /**
          * Create a consumer calling all listeners from {@link EventNode#addListener(EventListener)} and
          * {@link EventNode#register(EventBinding)}.
@@ -416,58 +1983,143 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
          * Most computation should ideally be done outside the consumers as a one-time cost.
          */
         private @Nullable Consumer<E> listenersConsumer(@NotNull ListenerEntry<E> entry) {
-            final EventListener<E>[] listenersCopy = entry.listeners.toArray(EventListener[]::new);
-            final Consumer<E>[] bindingsCopy = entry.bindingConsumers.toArray(Consumer[]::new);
+            final ListenerSlot<E>[] listenersCopy = entry.listeners.stream()
+                    .filter(slot -> !slot.dead)
+                    .toArray(ListenerSlot[]::new);
+            final ListenerSlot<E>[] bindingsCopy = entry.bindings.toArray(ListenerSlot[]::new);
             final boolean listenersEmpty = listenersCopy.length == 0;
             final boolean bindingsEmpty = bindingsCopy.length == 0;
             if (listenersEmpty && bindingsEmpty) return null;
+            final Probe<E>[] probes = probes(listenersCopy);
+            if (probes != null) {
+                // Measured, statistics and budgets are resolved once
+                final Probe<E>[] bindingProbes = probes(bindingsCopy);
+                return e -> {
+                    for (Probe<E> probe : probes) {
+                        callListener(probe, e);
+                    }
+                    for (Probe<E> probe : bindingProbes) {
+                        callListener(probe, e);
+                    }
+                };
+            }
             if (bindingsEmpty && listenersCopy.length == 1) {
                 // Only one normal listener
-                final EventListener<E> listener = listenersCopy[0];
-                return e -> callListener(listener, e);
+                final ListenerSlot<E> slot = listenersCopy[0];
+                return e -> callListener(slot, e);
             }
             // Worse case scenario, try to run everything
             return e -> {
                 if (!listenersEmpty) {
-                    for (EventListener<E> listener : listenersCopy) {
-                        callListener(listener, e);
+                    for (ListenerSlot<E> slot : listenersCopy) {
+                        callListener(slot, e);
                     }
                 }
                 if (!bindingsEmpty) {
-                    for (Consumer<E> eConsumer : bindingsCopy) {
-                        eConsumer.accept(e);
+                    for (ListenerSlot<E> binding : bindingsCopy) {
+                        callListener(binding, e);
                     }
                 }
             };
         }
 
+        /**
+         * Create a consumer handling {@link EventNode#map(Object, EventFilter)},
+         * {@link EventNode#mapInt(int, IntEventFilter)} and {@link EventNode#mapLong(long, LongEventFilter)}.
+         */
+        private @Nullable Consumer<E> mappedConsumer() {
+            if (!mappedListens()) return null;
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            final Consumer<E> objects = objectMappedConsumer();
+            final Consumer<E> ints = idMappedConsumer(node.intMapping);
+            final Consumer<E> longs = idMappedConsumer(node.longMapping);
+            Consumer<E> result = null;
+            for (Consumer<E> consumer : new Consumer[]{objects, ints, longs}) {
+                if (consumer != null) result = result == null ? consumer : result.andThen(consumer);
+            }
+            return result;
+        }
+
+        /**
+         * Create a consumer routing events to the nodes of a primitive mapping,
+         * through a table built once so that dispatch neither boxes nor allocates.
+         */
+        private @Nullable Consumer<E> idMappedConsumer(@Nullable IdMapping<E> mapping) {
+            if (mapping == null || mapping.registered.isEmpty()) return null;
+            Map<EventFilter<E, ?>, ToLongFunction<E>> keys = new IdentityHashMap<>();
+            Map<Long, Handle<E>> handlers = new HashMap<>(mapping.registered.size());
+            for (var mappedEntry : mapping.registered.entrySet()) {
+                final EventNodeImpl<E> mappedNode = mappedEntry.getValue();
+                if (!mappedNode.eventType.isAssignableFrom(eventType)) continue;
+                keys.computeIfAbsent(mappedNode.filter, EventNodeImpl::idKey);
+                handlers.put(mappedEntry.getKey(), (Handle<E>) mappedNode.getHandle(eventType));
+            }
+            if (keys.isEmpty()) return null;
+            final LongIndex<Handle<E>> index = new LongIndex<>(handlers);
+            final ToLongFunction<E>[] keyList = keys.values().toArray(ToLongFunction[]::new);
+            if (keyList.length == 1) {
+                final ToLongFunction<E> key = keyList[0];
+                return event -> {
+                    final Handle<E> handle = mappedHandle(index, key, event);
+                    if (handle != null) handle.call(event);
+                };
+            }
+            return event -> {
+                for (ToLongFunction<E> key : keyList) {
+                    final Handle<E> handle = mappedHandle(index, key, event);
+                    if (handle != null) handle.call(event);
+                }
+            };
+        }
+
+        /**
+         * Gets the handle of the mapped node owning {@code event}, a failing key is reported to this node.
+         */
+        private @Nullable Handle<E> mappedHandle(LongIndex<Handle<E>> index, ToLongFunction<E> key, E event) {
+            final long id;
+            try {
+                id = key.applyAsLong(event);
+            } catch (Throwable e) {
+                handleException(e);
+                return null;
+            }
+            return index.get(id);
+        }
+
         /**
          * Create a consumer handling {@link EventNode#map(Object, EventFilter)}.
          * The goal is to limit the amount of map lookup.
          */
-        private @Nullable Consumer<E> mappedConsumer() {
+        private @Nullable Consumer<E> objectMappedConsumer() {
             var node = (EventNodeImpl<E>) EventNodeImpl.this;
             final var mappedNodeCache = node.registeredMappedNode;
             if (mappedNodeCache.isEmpty()) return null;
             Set<EventFilter<E, ?>> filters = new HashSet<>(mappedNodeCache.size());
-            Map<Object, WeakReference<Handle<E>>> handlers = new WeakHashMap<>(mappedNodeCache.size());
+            Map<Object, Handle<E>> handlers = new IdentityHashMap<>(mappedNodeCache.size());
 
-            // Retrieve all filters used to retrieve potential handlers
+            // Retrieve all filters used to retrieve potential handlers, the handles of the mapped nodes
+            // are updated when called so that their listeners do not invalidate this one
             for (var mappedEntry : mappedNodeCache.entrySet()) {
                 final EventNodeImpl<E> mappedNode = mappedEntry.getValue();
-                final Handle<E> handle = (Handle<E>) mappedNode.getHandle(eventType);
-                if (!handle.hasListener()) continue; // Implicit update
+                if (!mappedNode.eventType.isAssignableFrom(eventType)) continue;
                 filters.add(mappedNode.filter);
-                handlers.put(mappedEntry.getKey(), new WeakReference<>(handle));
+                handlers.put(mappedEntry.getKey(), (Handle<E>) mappedNode.getHandle(eventType));
             }
-            // If at least one mapped node listen to this handle type,
+            // If at least one mapped node accepts this handle type,
             // loop through them and forward to mapped node if there is a match
             if (filters.isEmpty()) return null;
             final EventFilter<E, ?>[] filterList = filters.toArray(EventFilter[]::new);
+            // Immutable and thread-safe, owners and handles are not retained
+            final WeakIdentityIndex<Handle<E>> index = new WeakIdentityIndex<>(handlers);
             final BiConsumer<EventFilter<E, ?>, E> mapper = (filter, event) -> {
-                final Object handler = filter.castHandler(event);
-                final WeakReference<Handle<E>> handleRef = handlers.get(handler);
-                final Handle<E> handle = handleRef != null ? handleRef.get() : null;
+                final Object owner;
+                try {
+                    owner = filter.castHandler(event);
+                } catch (Throwable e) {
+                    handleException(e);
+                    return;
+                }
+                final Handle<E> handle = index.get(owner);
                 if (handle != null) handle.call(event);
             };
             // Specialize the consumer depending on the number of filters to avoid looping
@@ -490,17 +2142,182 @@ non-sealed class EventNodeImpl<T> implements EventNode<T> {
             };
         }
 
-        void callListener(@NotNull EventListener<E> listener, E event) {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
-            EventListener.Result result = listener.run(event);
-            if (result == EventListener.Result.EXPIRED) {
-                node.removeListener(listener);
-                invalidate();
+        /**
+         * Tests the predicate of the node. A failing filter or predicate is reported to the node
+         * and only drops the event for the node, the following steps of its parent still run.
+         */
+        private boolean test(BiPredicate<E, Object> predicate, EventFilter<E, ?> filter, E event) {
+            try {
+                return predicate.test(event, filter.getHandler(event));
+            } catch (Throwable e) {
+                handleException(e);
+                return false;
             }
         }
+
+        /**
+         * Calls a listener unless dead and handles its result.
+         *
+         * @return false if the listener is dead or expired
+         */
+        boolean callListener(@NotNull ListenerSlot<E> slot, E event) {
+            if (!slot.callable()) return false;
+            final EventListener.Result result;
+            try {
+                result = slot.listener.run(event);
+            } catch (Throwable e) {
+                listenerFailed(e, slot);
+                return true;
+            }
+            onResult(slot, result);
+            return result != EventListener.Result.EXPIRED;
+        }
+
+        /**
+         * Calls a listener while recording its statistics and checking its budget.
+         *
+         * @return false if the listener expired
+         */
+        boolean callListener(@NotNull Probe<E> probe, E event) {
+            final ListenerSlot<E> slot = probe.slot();
+            if (!slot.callable()) return false;
+            final EventListener<E> listener = slot.listener;
+            final long start = System.nanoTime();
+            EventListener.Result result = null;
+            try {
+                result = listener.run(event);
+            } catch (Throwable e) {
+                probe.failed();
+                listenerFailed(e, slot);
+            } finally {
+                final long duration = System.nanoTime() - start;
+                probe.record(duration);
+                if (duration > probe.instrumentation().budgetNanos()) reportSlow(probe, duration);
+            }
+            if (result == null) return true; // Failed
+            onResult(slot, result);
+            return result != EventListener.Result.EXPIRED;
+        }
+
+        /**
+         * Reports a listener failure to the node of the listener, applying its circuit breaker.
+         * Also called from the method handles of {@link DispatcherCompiler}, the other listeners still receive the event.
+         */
+        void listenerFailed(@NotNull Throwable e, @NotNull ListenerSlot<E> slot) {
+            final EventNodeImpl<?> node = slot.node;
+            final ListenerCircuitBreaker breaker = node.effectiveCircuitBreaker();
+            final int failures = breaker != null ? breaker.failed(slot) : 0;
+            if (failures == 0) {
+                node.handleException(e);
+                return;
+            }
+            node.handleException(new ListenerCircuitBreaker.ListenerDisabledException(node.path(), slot.listener,
+                    failures, breaker.coolDownNanos(), e));
+        }
+
+        private void reportSlow(@NotNull Probe<E> probe, long duration) {
+            final Instrumentation instrumentation = probe.instrumentation();
+            final ListenerWatchdog watchdog = instrumentation.watchdog();
+            assert watchdog != null;
+            final var report = new ListenerWatchdog.Report(path(), probe.slot().listener, eventType,
+                    duration, instrumentation.budgetNanos());
+            try {
+                watchdog.report(report, EventNodeImpl.this::handleException);
+            } catch (Throwable e) {
+                handleException(e);
+            }
+        }
+
+        /**
+         * Resolves what has to be measured for the listeners of the node, once per build.
+         *
+         * @return the instrumentation, null if neither metrics nor a watchdog apply to the node
+         */
+        private @Nullable Instrumentation instrumentation() {
+            final EventMetrics metrics = EventNodeImpl.this.metrics;
+            ListenerWatchdog watchdog = effectiveWatchdog();
+            final long budget = watchdog != null ? watchdog.budgetNanos(eventType) : Long.MAX_VALUE;
+            if (budget == Long.MAX_VALUE) watchdog = null;
+            if (metrics == null && watchdog == null) return null;
+            return new Instrumentation(metrics, watchdog, budget);
+        }
+
+        private Probe<E> @Nullable [] probes(ListenerSlot<E>[] listeners) {
+            final Instrumentation instrumentation = instrumentation();
+            if (instrumentation == null) return null;
+            final Probe<E>[] probes = new Probe[listeners.length];
+            for (int i = 0; i < listeners.length; i++) probes[i] = new Probe<>(listeners[i], instrumentation);
+            return probes;
+        }
+
+        /**
+         * Handles the result of a listener, also called from the method handles of {@link DispatcherCompiler}.
+         */
+        void onResult(@NotNull ListenerSlot<E> slot, @NotNull EventListener.Result result) {
+            slot.succeeded();
+            // Stop calling it right away, removed with the other expired listeners of the tree
+            if (result == EventListener.Result.EXPIRED && slot.kill()) slot.node.tree.expire(slot);
+        }
+    }
+
+    /**
+     * Consumer of a handle, valid as long as the epoch of the tree it has been built in did not change,
+     * nor the one of the mapped node containing its node if any.
+     * <p>
+     * Nodes leaving a tree always invalidate it, a snapshot referring to a previous tree is therefore never valid.
+     * Snapshots of frozen nodes skip the epoch check entirely.
+     */
+    private record Snapshot<E>(Tree tree, long epoch, @Nullable EventNodeLazyImpl<?> scope, long scopeEpoch,
+                               @Nullable Consumer<E> listener) {
+        /**
+         * Epoch of the snapshots of frozen nodes, valid until discarded by {@link #unfreeze()}.
+         */
+        static final long FROZEN = -1;
+
+        boolean isValid() {
+            return epoch == FROZEN || (epoch == tree.epoch && isScopeValid());
+        }
+
+        boolean isValid(Tree current) {
+            return epoch == FROZEN || (tree == current && epoch == current.epoch && isScopeValid());
+        }
+
+        private boolean isScopeValid() {
+            return scope == null || scopeEpoch == scope.epoch;
+        }
+    }
+
+    /**
+     * Metrics and watchdog budget applying to the listeners of a handle.
+     *
+     * @param budgetNanos the budget of the listeners, {@link Long#MAX_VALUE} without watchdog
+     */
+    private record Instrumentation(@Nullable EventMetrics metrics, @Nullable ListenerWatchdog watchdog,
+                                   long budgetNanos) {
+    }
+
+    /**
+     * Instrumented listener, with its statistics resolved ahead of dispatch.
+     */
+    private record Probe<E>(ListenerSlot<E> slot, Instrumentation instrumentation,
+                            @Nullable EventMetrics.Stats stats) {
+        Probe(ListenerSlot<E> slot, Instrumentation instrumentation) {
+            this(slot, instrumentation, instrumentation.metrics() != null ?
+                    instrumentation.metrics().listener(slot) : null);
+        }
+
+        void record(long nanos) {
+            if (stats != null) stats.record(nanos);
+        }
+
+        void failed() {
+            if (stats == null) return;
+            stats.failed();
+            instrumentation.metrics().node().failed();
+        }
     }
 
-    private void handleException(Throwable e) {
+    void handleException(Throwable e) {
         if (exceptionHandler != null) {
             exceptionHandler.accept(e);
             return;
@@ -1,6 +1,7 @@
 package net.skyplex.common.event;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
@@ -9,10 +10,12 @@ import java.util.function.Consumer;
 
 final class EventNodeLazyImpl<E> extends EventNodeImpl<E> {
     private static final VarHandle MAPPED;
+    private static final VarHandle EPOCH;
 
     static {
         try {
             MAPPED = MethodHandles.lookup().findVarHandle(EventNodeLazyImpl.class, "mapped", boolean.class);
+            EPOCH = MethodHandles.lookup().findVarHandle(EventNodeLazyImpl.class, "epoch", long.class);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new IllegalStateException(e);
         }
@@ -20,14 +23,35 @@ final class EventNodeLazyImpl<E> extends EventNodeImpl<E> {
 
     private final EventNodeImpl<? super E> holder;
     private final WeakReference<Object> owner;
+    /**
+     * Mapping of the holder this node is registered in when mapped to a primitive value, null for objects.
+     */
+    private final @Nullable IdMapping<?> idMapping;
+    private final long id;
     @SuppressWarnings("unused")
     private boolean mapped;
+    /**
+     * Increased by the listener changes of this node and of the nodes below it, checked by their handles
+     * in addition to the epoch of the tree. May be increased from any thread by expiries.
+     */
+    volatile long epoch;
 
     EventNodeLazyImpl(@NotNull EventNodeImpl<? super E> holder,
                       @NotNull Object owner, @NotNull EventFilter<E, ?> filter) {
         super(owner.toString(), filter, null);
         this.holder = holder;
         this.owner = new WeakReference<>(owner);
+        this.idMapping = null;
+        this.id = 0;
+    }
+
+    EventNodeLazyImpl(@NotNull EventNodeImpl<? super E> holder, @NotNull IdMapping<?> idMapping,
+                      long id, @NotNull EventFilter<E, ?> filter) {
+        super(Long.toString(id), filter, null);
+        this.holder = holder;
+        this.owner = null;
+        this.idMapping = idMapping;
+        this.id = id;
     }
 
     @Override
@@ -50,6 +74,7 @@ final class EventNodeLazyImpl<E> extends EventNodeImpl<E> {
 
     @Override
     public @NotNull <E1 extends E, H> EventNode<E1> map(@NotNull H value, @NotNull EventFilter<E1, H> filter) {
+        Check.argCondition(idMapping != null, "Cannot map an object to an already mapped node.");
         final Object owner = retrieveOwner();
         if (owner != value) {
             throw new IllegalArgumentException("Cannot map an object to an already mapped node.");
@@ -57,6 +82,20 @@ final class EventNodeLazyImpl<E> extends EventNodeImpl<E> {
         return (EventNode<E1>) this;
     }
 
+    @Override
+    public <E1 extends E> @NotNull EventNode<E1> mapInt(int value, @NotNull IntEventFilter<E1> filter) {
+        Check.argCondition(idMapping == null || idMapping != holder.intMapping || id != value,
+                "Cannot map a value to an already mapped node.");
+        return (EventNode<E1>) this;
+    }
+
+    @Override
+    public <E1 extends E> @NotNull EventNode<E1> mapLong(long value, @NotNull LongEventFilter<E1> filter) {
+        Check.argCondition(idMapping == null || idMapping != holder.longMapping || id != value,
+                "Cannot map a value to an already mapped node.");
+        return (EventNode<E1>) this;
+    }
+
     @Override
     public void register(@NotNull EventBinding<? extends E> binding) {
         ensureMap();
@@ -64,14 +103,43 @@ final class EventNodeLazyImpl<E> extends EventNodeImpl<E> {
     }
 
     private void ensureMap() {
+        checkMutable();
         if (MAPPED.compareAndSet(this, false, true)) {
-            synchronized (GLOBAL_CHILD_LOCK) {
-                var previous = this.holder.registeredMappedNode.putIfAbsent(retrieveOwner(), EventNodeImpl.class.cast(this));
-                if (previous == null) invalidateEventsFor(holder);
+            final Tree tree = lockTree();
+            try {
+                if (idMapping != null && idMapping.nodes.get(id) != this) return; // Unmapped
+                final var node = EventNodeImpl.class.cast(this);
+                var previous = idMapping != null ?
+                        idMapping.registered.putIfAbsent(id, node) :
+                        this.holder.registeredMappedNodes().putIfAbsent(retrieveOwner(), node);
+                if (previous == null) {
+                    holder.updateMapped(countListeners(1));
+                    holder.invalidateScope();
+                }
+            } finally {
+                tree.unlock();
             }
         }
     }
 
+    EventNodeImpl<? super E> holder() {
+        return holder;
+    }
+
+    /**
+     * Gets if events are routed to this node, its listeners being then counted by its holder.
+     * The tree lock must be held.
+     */
+    boolean isRegistered() {
+        if (idMapping != null) return idMapping.registered.get(id) == this;
+        final Object owner = this.owner.get();
+        return owner != null && holder.registeredMappedNode.get(owner) == this;
+    }
+
+    void invalidate() {
+        EPOCH.getAndAdd(this, 1L);
+    }
+
     private Object retrieveOwner() {
         final Object owner = this.owner.get();
         if (owner == null) {
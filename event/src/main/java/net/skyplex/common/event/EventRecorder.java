@@ -0,0 +1,299 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the events reaching nodes into a memory-mapped ring file, to be fed back with {@link EventReplayer}.
+ * <p>
+ * Events are serialized by the codec of their class, or of their closest registered supertype,
+ * and stored with the time elapsed since the recorder has been opened. Events without codec are ignored.
+ * Once the file is full, the oldest records are overwritten.
+ * <p>
+ * The dispatching thread only encodes the event in a thread local buffer and copies it to the mapped file,
+ * the operating system writes it back to the disk. Records carry their position in the stream and are committed one by one,
+ * the replayer finds them without any index even if the process died while recording.
+ * Their header ends with a check word of the other fields, payloads looking like a header are not taken for records.
+ */
+@ApiStatus.Experimental
+public final class EventRecorder implements AutoCloseable {
+    static final int MAGIC = 0x534B5952;
+    static final int VERSION = 2;
+    /**
+     * magic, version, capacity and type count, then the type names.
+     */
+    static final int HEADER_SIZE = 4096;
+    static final int TYPES_OFFSET = 4 * 4;
+    /**
+     * position, length, type, timestamp and check word, then the payload.
+     */
+    static final int RECORD_HEADER_SIZE = 8 + 4 + 4 + 8 + 4;
+    static final int RECORD_MAGIC = 0x45565421;
+    static final int PADDING_TYPE = -1;
+    static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final List<Class<?>> classes;
+    private final List<EventCodec<Object>> codecs;
+    private final ClassValue<Integer> types;
+    private final ThreadLocal<ByteBuffer> scratch;
+    private final long origin = System.nanoTime();
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<EventNode<?>, List<EventListener<?>>> attached = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private EventRecorder(FileChannel channel, MappedByteBuffer buffer, int capacity,
+                          List<Class<?>> classes, List<EventCodec<Object>> codecs, int maxEventSize) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.classes = classes;
+        this.codecs = codecs;
+        this.types = new ClassValue<>() {
+            @Override
+            protected Integer computeValue(@NotNull Class<?> type) {
+                final int exact = classes.indexOf(type);
+                if (exact != -1) return exact;
+                for (int i = 0; i < classes.size(); i++) {
+                    if (classes.get(i).isAssignableFrom(type)) return i;
+                }
+                return -1;
+            }
+        };
+        this.scratch = ThreadLocal.withInitial(() -> ByteBuffer.allocate(maxEventSize));
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull Builder builder(@NotNull Path file) {
+        return new Builder(file);
+    }
+
+    /**
+     * Records the events reaching {@code node}, cancelled ones included.
+     * A listener is added for each codec type accepted by the node, after the listeners already added to it.
+     *
+     * @param node the node to record
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void attach(@NotNull EventNode<T> node) {
+        List<EventListener<?>> listeners = new ArrayList<>();
+        for (int i = 0; i < classes.size(); i++) {
+            final Class<?> eventType = classes.get(i);
+            if (!node.getEventType().isAssignableFrom(eventType)) continue;
+            final int type = i;
+            listeners.add(EventListener.builder(eventType)
+                    .ignoreCancelled(false)
+                    // Recursive events reach the listeners of their supertypes as well
+                    .handler(event -> {
+                        if (types.get(event.getClass()) == type) record(event);
+                    })
+                    .build());
+        }
+        Check.stateCondition(attached.putIfAbsent(node, listeners) != null, "The recorder is already attached to {0}", node.getName());
+        listeners.forEach(listener -> node.addListener((EventListener<? extends T>) listener));
+    }
+
+    /**
+     * Stops recording the events reaching {@code node}.
+     *
+     * @param node the node to stop recording
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void detach(@NotNull EventNode<T> node) {
+        final List<EventListener<?>> listeners = attached.remove(node);
+        if (listeners != null) listeners.forEach(listener -> node.removeListener((EventListener<? extends T>) listener));
+    }
+
+    /**
+     * Records an event, ignored if there is no codec for its class or if the recorder is closed.
+     *
+     * @param event the event to record
+     */
+    public void record(@NotNull Object event) {
+        final long timestamp = System.nanoTime() - origin;
+        final int type = types.get(event.getClass());
+        if (type == -1 || closed) return;
+        final ByteBuffer scratch = this.scratch.get().clear();
+        try {
+            codecs.get(type).encode(event, scratch);
+        } catch (BufferOverflowException e) {
+            dropped.increment();
+            return;
+        }
+        final int payloadSize = scratch.position();
+        final int length = (RECORD_HEADER_SIZE + payloadSize + 7) & ~7;
+        if (length > capacity) {
+            dropped.increment();
+            return;
+        }
+        final long position = reserve(length);
+        final int index = HEADER_SIZE + (int) (position % capacity);
+        // Invalidate the overwritten record before the position makes it look valid
+        INT.setRelease(buffer, index + 8, 0);
+        buffer.putLong(index, position);
+        buffer.putInt(index + 12, type);
+        buffer.putLong(index + 16, timestamp);
+        buffer.putInt(index + 24, check(position, length, type));
+        buffer.put(index + RECORD_HEADER_SIZE, scratch.array(), 0, payloadSize);
+        INT.setRelease(buffer, index + 8, length);
+    }
+
+    /**
+     * Computes the check word of a record header, validated by the replayer before trusting the header.
+     */
+    static int check(long position, int length, int type) {
+        long hash = position * 0x9E3779B97F4A7C15L + ((long) length << 32 | (type & 0xFFFFFFFFL));
+        hash = (hash ^ (hash >>> 31)) * 0xBF58476D1CE4E5B9L;
+        return (int) (hash ^ (hash >>> 32)) ^ RECORD_MAGIC;
+    }
+
+    /**
+     * Reserves {@code length} bytes not crossing the end of the ring, padding the end of the lap otherwise.
+     */
+    private long reserve(int length) {
+        while (true) {
+            final long position = head.get();
+            final int offset = (int) (position % capacity);
+            final int remaining = capacity - offset;
+            if (length <= remaining) {
+                if (head.compareAndSet(position, position + length)) return position;
+            } else if (head.compareAndSet(position, position + remaining) && remaining >= RECORD_HEADER_SIZE) {
+                final int index = HEADER_SIZE + offset;
+                INT.setRelease(buffer, index + 8, 0);
+                buffer.putLong(index, position);
+                buffer.putInt(index + 12, PADDING_TYPE);
+                buffer.putInt(index + 24, check(position, remaining, PADDING_TYPE));
+                INT.setRelease(buffer, index + 8, remaining);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of events which could not be recorded, because larger than the maximum event size.
+     *
+     * @return the dropped event count
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes the recorded events to the disk, only needed to survive an operating system failure.
+     */
+    public void flush() {
+        buffer.force();
+    }
+
+    /**
+     * Detaches the recorder from every node, flushes it and closes the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        attached.keySet().forEach(this::detach);
+        flush();
+        channel.close();
+    }
+
+    public static final class Builder {
+        private final Path file;
+        private final List<Class<?>> classes = new ArrayList<>();
+        private final List<EventCodec<Object>> codecs = new ArrayList<>();
+        private int capacity = 64 * 1024 * 1024;
+        private int maxEventSize = 4096;
+
+        private Builder(Path file) {
+            this.file = file;
+        }
+
+        /**
+         * Sets the size of the ring in bytes, 64MiB by default.
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull Builder capacity(int capacity) {
+            Check.argCondition(capacity < RECORD_HEADER_SIZE || capacity > Integer.MAX_VALUE - HEADER_SIZE,
+                    "Invalid capacity: {0}", capacity);
+            this.capacity = capacity & ~7;
+            return this;
+        }
+
+        /**
+         * Sets the maximum encoded size of an event, 4KiB by default.
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull Builder maxEventSize(int maxEventSize) {
+            Check.argCondition(maxEventSize <= 0, "Invalid maximum event size: {0}", maxEventSize);
+            this.maxEventSize = maxEventSize;
+            return this;
+        }
+
+        /**
+         * Records the events of {@code eventType} and its subtypes using {@code codec}.
+         * Codecs registered first take precedence for events matching several of them.
+         */
+        @SuppressWarnings("unchecked")
+        @Contract(value = "_, _ -> this")
+        public <E> @NotNull Builder codec(@NotNull Class<E> eventType, @NotNull EventCodec<E> codec) {
+            Check.argCondition(classes.contains(eventType), "A codec is already registered for {0}", eventType.getName());
+            this.classes.add(eventType);
+            this.codecs.add((EventCodec<Object>) codec);
+            return this;
+        }
+
+        /**
+         * Creates or truncates the file and maps it.
+         *
+         * @return the recorder
+         * @throws IOException if the file cannot be opened
+         */
+        @Contract(value = "-> new")
+        public @NotNull EventRecorder open() throws IOException {
+            final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            try {
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) HEADER_SIZE + capacity);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(8, capacity);
+                buffer.putInt(12, classes.size());
+                int index = TYPES_OFFSET;
+                for (Class<?> type : classes) {
+                    final byte[] name = type.getName().getBytes(StandardCharsets.UTF_8);
+                    Check.argCondition(index + 2 + name.length > HEADER_SIZE, "Too many codecs");
+                    buffer.putShort(index, (short) name.length);
+                    buffer.put(index + 2, name);
+                    index += 2 + name.length;
+                }
+                return new EventRecorder(channel, buffer, capacity, List.copyOf(classes), List.copyOf(codecs), maxEventSize);
+            } catch (Throwable e) {
+                channel.close();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+import static net.skyplex.common.event.EventRecorder.HEADER_SIZE;
+import static net.skyplex.common.event.EventRecorder.MAGIC;
+import static net.skyplex.common.event.EventRecorder.check;
+import static net.skyplex.common.event.EventRecorder.PADDING_TYPE;
+import static net.skyplex.common.event.EventRecorder.RECORD_HEADER_SIZE;
+import static net.skyplex.common.event.EventRecorder.TYPES_OFFSET;
+import static net.skyplex.common.event.EventRecorder.VERSION;
+
+/**
+ * Feeds a recording of {@link EventRecorder} back into a node, from the oldest event still in the ring.
+ * <p>
+ * Events are decoded once when the recording is read, replaying only dispatches them,
+ * which makes recordings usable as realistic benchmark workloads.
+ */
+@ApiStatus.Experimental
+public final class EventReplayer {
+    private final List<Recorded> events;
+    private final long skipped;
+
+    private EventReplayer(List<Recorded> events, long skipped) {
+        this.events = events;
+        this.skipped = skipped;
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull Builder builder(@NotNull Path file) {
+        return new Builder(file);
+    }
+
+    /**
+     * Gets the recorded events, in recording order.
+     *
+     * @return an unmodifiable list of the events
+     */
+    public @NotNull List<Recorded> events() {
+        return events;
+    }
+
+    /**
+     * Gets the number of recorded events without codec in this replayer.
+     *
+     * @return the skipped event count
+     */
+    public long skipped() {
+        return skipped;
+    }
+
+    /**
+     * Calls the recorded events on {@code node}, ignoring the ones not matching its event type.
+     *
+     * @param node   the node to call the events on
+     * @param pacing the pacing of the events
+     * @return the number of called events
+     */
+    public <T> int replay(@NotNull EventNode<T> node, @NotNull Pacing pacing) {
+        final Class<T> eventType = node.getEventType();
+        final long start = System.nanoTime();
+        final long first = events.isEmpty() ? 0 : events.get(0).timestampNanos();
+        int count = 0;
+        for (Recorded recorded : events) {
+            final Object event = recorded.event();
+            if (!eventType.isInstance(event)) continue;
+            if (pacing == Pacing.RECORDED) {
+                final long deadline = start + recorded.timestampNanos() - first;
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) LockSupport.parkNanos(remaining);
+            }
+            node.call(eventType.cast(event));
+            count++;
+        }
+        return count;
+    }
+
+    public enum Pacing {
+        /**
+         * Waits between the events as long as when they have been recorded.
+         */
+        RECORDED,
+        /**
+         * Calls the events back to back.
+         */
+        MAXIMUM
+    }
+
+    /**
+     * A recorded event.
+     *
+     * @param timestampNanos the time at which the event has been recorded, relative to the opening of the recorder
+     * @param event          the decoded event
+     */
+    public record Recorded(long timestampNanos, @NotNull Object event) {
+    }
+
+    public static final class Builder {
+        private final Path file;
+        private final Map<String, EventCodec<?>> codecs = new HashMap<>();
+
+        private Builder(Path file) {
+            this.file = file;
+        }
+
+        /**
+         * Decodes the events recorded with the codec of {@code eventType}.
+         */
+        @Contract(value = "_, _ -> this")
+        public <E> @NotNull Builder codec(@NotNull Class<E> eventType, @NotNull EventCodec<E> codec) {
+            this.codecs.put(eventType.getName(), codec);
+            return this;
+        }
+
+        /**
+         * Reads and decodes the recording.
+         *
+         * @return the replayer
+         * @throws IOException if the file cannot be read or is not a recording
+         */
+        @Contract(value = "-> new")
+        public @NotNull EventReplayer read() throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IOException("Not an event recording: " + file);
+                }
+                final int capacity = buffer.getInt(8);
+                final int typeCount = buffer.getInt(12);
+                final EventCodec<?>[] types = new EventCodec[typeCount];
+                int index = TYPES_OFFSET;
+                for (int i = 0; i < typeCount; i++) {
+                    final byte[] name = new byte[buffer.getShort(index)];
+                    buffer.get(index + 2, name);
+                    types[i] = codecs.get(new String(name, StandardCharsets.UTF_8));
+                    index += 2 + name.length;
+                }
+                return decode(buffer.slice(HEADER_SIZE, capacity), types);
+            }
+        }
+
+        private static EventReplayer decode(ByteBuffer ring, EventCodec<?>[] types) {
+            final int capacity = ring.capacity();
+            // The end of the newest record, older records start at most one ring before
+            // Payloads may look like a header at any offset, the check word rules them out
+            long end = 0;
+            for (int offset = 0; offset <= capacity - RECORD_HEADER_SIZE; offset += 8) {
+                final long position = ring.getLong(offset);
+                if (position >= 0 && position % capacity == offset && isRecord(ring, position)) {
+                    end = Math.max(end, position + ring.getInt(offset + 8));
+                }
+            }
+
+            List<Recorded> events = new ArrayList<>();
+            long skipped = 0;
+            long position = Math.max(0, end - capacity);
+            while (position < end) {
+                final int offset = (int) (position % capacity);
+                if (capacity - offset < RECORD_HEADER_SIZE) {
+                    // Too small for a padding record
+                    position += capacity - offset;
+                    continue;
+                }
+                if (!isRecord(ring, position)) {
+                    // Overwritten by the newest records or never committed
+                    position += 8;
+                    continue;
+                }
+                final int length = ring.getInt(offset + 8);
+                final int type = ring.getInt(offset + 12);
+                position += length;
+                if (type == PADDING_TYPE) continue;
+                final EventCodec<?> codec = type < types.length ? types[type] : null;
+                if (codec == null) {
+                    skipped++;
+                    continue;
+                }
+                final ByteBuffer payload = ring.slice(offset + RECORD_HEADER_SIZE, length - RECORD_HEADER_SIZE);
+                events.add(new Recorded(ring.getLong(offset + 16), codec.decode(payload)));
+            }
+            return new EventReplayer(List.copyOf(events), skipped);
+        }
+
+        /**
+         * Checks that a committed record written at {@code position} is still in the ring.
+         */
+        private static boolean isRecord(ByteBuffer ring, long position) {
+            final int capacity = ring.capacity();
+            final int offset = (int) (position % capacity);
+            if (capacity - offset < RECORD_HEADER_SIZE || ring.getLong(offset) != position) return false;
+            final int length = ring.getInt(offset + 8);
+            return length >= RECORD_HEADER_SIZE && (length & 7) == 0 && length <= capacity - offset &&
+                    ring.getInt(offset + 24) == check(position, length, ring.getInt(offset + 12));
+        }
+    }
+}
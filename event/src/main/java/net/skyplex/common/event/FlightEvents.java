@@ -0,0 +1,71 @@
+package net.skyplex.common.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events of the event graph.
+ * <p>
+ * Callers check the shared instances with {@link Event#isEnabled()} before creating an event,
+ * the check being a static field read once the recorder instrumented the classes, and false otherwise.
+ */
+final class FlightEvents {
+    static final Dispatch DISPATCH = new Dispatch();
+    static final Rebuild REBUILD = new Rebuild();
+    static final Mutation MUTATION = new Mutation();
+    static final LockWait LOCK_WAIT = new LockWait();
+
+    private FlightEvents() {
+    }
+
+    @Name("net.skyplex.event.Dispatch")
+    @Label("Event Dispatch")
+    @Description("Event or batch of events called on a node, children included")
+    @Category({"SkyPlex", "Events"})
+    @StackTrace(false)
+    static final class Dispatch extends Event {
+        @Label("Event Type")
+        Class<?> eventType;
+        @Label("Node")
+        String node;
+        @Label("Event Count")
+        @Description("Size of the batch, 1 for a single event")
+        int count;
+    }
+
+    @Name("net.skyplex.event.Rebuild")
+    @Label("Handle Rebuild")
+    @Description("Dispatcher of a node built after a graph change")
+    @Category({"SkyPlex", "Events"})
+    static final class Rebuild extends Event {
+        @Label("Event Type")
+        Class<?> eventType;
+        @Label("Node")
+        String node;
+        @Label("Batch")
+        boolean batch;
+    }
+
+    @Name("net.skyplex.event.Mutation")
+    @Label("Graph Mutation")
+    @Category({"SkyPlex", "Events"})
+    static final class Mutation extends Event {
+        @Label("Node")
+        String node;
+        @Label("Operation")
+        String operation;
+    }
+
+    @Name("net.skyplex.event.LockWait")
+    @Label("Graph Lock Wait")
+    @Description("Time spent waiting for the lock of an event graph held by another thread")
+    @Category({"SkyPlex", "Events"})
+    static final class LockWait extends Event {
+        @Label("Node")
+        String node;
+    }
+}
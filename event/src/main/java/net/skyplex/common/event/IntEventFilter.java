@@ -0,0 +1,49 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents a filter whose handler is an int, such as an entity id.
+ * <p>
+ * Used by {@link EventNode#mapInt(int, IntEventFilter)} to route events without boxing the handler.
+ *
+ * @param <E> The event type to filter
+ */
+@ApiStatus.Experimental
+public interface IntEventFilter<E> extends EventFilter<E, Integer> {
+
+    static <E> @NotNull IntEventFilter<E> from(@NotNull Class<E> eventType, @NotNull ToIntFunction<E> handlerGetter) {
+        return new IntEventFilter<>() {
+            @Override
+            public int getIntHandler(@NotNull E event) {
+                return handlerGetter.applyAsInt(event);
+            }
+
+            @Override
+            public @NotNull Class<E> eventType() {
+                return eventType;
+            }
+        };
+    }
+
+    /**
+     * Gets the handler for the given event instance.
+     *
+     * @param event The event instance
+     * @return The handler
+     */
+    int getIntHandler(@NotNull E event);
+
+    @Override
+    default @NotNull Integer getHandler(@NotNull E event) {
+        return getIntHandler(event);
+    }
+
+    @Override
+    default @NotNull Class<Integer> handlerType() {
+        return Integer.class;
+    }
+}
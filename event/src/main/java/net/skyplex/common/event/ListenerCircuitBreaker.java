@@ -0,0 +1,108 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Disables listeners failing repeatedly, set on a node with {@link EventNode#setCircuitBreaker(ListenerCircuitBreaker)}.
+ * <p>
+ * Every failure is reported to the exception handler of the node of the listener, until a listener fails
+ * a number of times in a row. It is then skipped for a cool-down, reported once as a {@link ListenerDisabledException}.
+ * The first call after the cool-down runs the listener again, a success closes the breaker
+ * while a failure disables the listener for another cool-down.
+ */
+@ApiStatus.Experimental
+public final class ListenerCircuitBreaker {
+    private final int failureThreshold;
+    private final long coolDownNanos;
+
+    private ListenerCircuitBreaker(int failureThreshold, long coolDownNanos) {
+        this.failureThreshold = failureThreshold;
+        this.coolDownNanos = coolDownNanos;
+    }
+
+    @Contract(value = "-> new", pure = true)
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Records a failure of the listener of {@code slot}, disabling it if the threshold is reached.
+     *
+     * @return the failure count if the listener has been disabled, 0 otherwise
+     */
+    int failed(@NotNull EventNodeImpl.ListenerSlot<?> slot) {
+        final int failures = slot.failed();
+        if (failures < failureThreshold) return 0;
+        slot.disable(coolDownNanos);
+        return failures;
+    }
+
+    long coolDownNanos() {
+        return coolDownNanos;
+    }
+
+    public static final class Builder {
+        private int failureThreshold = 5;
+        private Duration coolDown = Duration.ofSeconds(30);
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of consecutive failures disabling a listener, 5 by default.
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull Builder failureThreshold(int failureThreshold) {
+            Check.argCondition(failureThreshold <= 0, "Invalid failure threshold: {0}", failureThreshold);
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * Sets how long a listener stays disabled, 30 seconds by default.
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull Builder coolDown(@NotNull Duration coolDown) {
+            Check.argCondition(coolDown.isNegative() || coolDown.isZero(), "Invalid cool-down: {0}", coolDown);
+            this.coolDown = coolDown;
+            return this;
+        }
+
+        @Contract(value = "-> new", pure = true)
+        public @NotNull ListenerCircuitBreaker build() {
+            return new ListenerCircuitBreaker(failureThreshold, coolDown.toNanos());
+        }
+    }
+
+    /**
+     * Reported when a listener gets disabled, caused by its last failure.
+     */
+    public static final class ListenerDisabledException extends RuntimeException {
+        private final transient EventListener<?> listener;
+        private final int failures;
+
+        ListenerDisabledException(@NotNull String nodePath, @NotNull EventListener<?> listener, int failures,
+                                  long coolDownNanos, @NotNull Throwable cause) {
+            super("Listener " + EventMetrics.listenerName(listener) + " in " + nodePath + " disabled for " +
+                    Duration.ofNanos(coolDownNanos).toMillis() + "ms after " + failures + " consecutive failures",
+                    cause, false, false);
+            this.listener = listener;
+            this.failures = failures;
+        }
+
+        public @NotNull EventListener<?> listener() {
+            return listener;
+        }
+
+        /**
+         * Gets the number of consecutive failures of the listener.
+         */
+        public int failures() {
+            return failures;
+        }
+    }
+}
@@ -3,11 +3,16 @@ package net.skyplex.common.event;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.function.Supplier;
+
 /**
  * Represents a key to a listenable event, retrievable from {@link EventNode#getHandle(Class)}.
  * Useful to avoid map lookups.
  * <p>
  * It is recommended to store instances of this class in {@code static final} fields.
+ * A node always returns the same handle for a given type, it stays valid for the whole life of the node
+ * and picks up graph changes (listeners, children, mapped nodes) on its next call.
  *
  * @param <E> the event type
  */
@@ -23,6 +28,28 @@ public sealed interface ListenerHandle<E> permits EventNodeImpl.Handle {
      */
     void call(@NotNull E event);
 
+    /**
+     * Calls the event given by {@code supplier}, only invoked if the event has a listener.
+     * <p>
+     * Without listener, only the handle is checked, as {@link #call(Object)} does before dispatching.
+     * Useful for events expensive to create, the event must have the exact type {@code E}.
+     *
+     * @param supplier the supplier of the event to call
+     */
+    void call(@NotNull Supplier<? extends E> supplier);
+
+    /**
+     * Calls every given event, resolving the listeners only once for the whole batch.
+     * <p>
+     * Listeners are called listener-major: each listener receives every event before the next listener runs.
+     * Every single event still reaches listeners in the same order as {@link #call(Object)},
+     * but listeners relying on the interleaving of events should use it instead.
+     * Batches must have the exact type {@code E}, otherwise every event is called separately.
+     *
+     * @param events the events to call
+     */
+    void callAll(@NotNull Collection<? extends E> events);
+
     /**
      * Gets if any listener has been registered for the given handle.
      * May trigger an update if the cached data is not correct.
@@ -0,0 +1,139 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reports listeners taking longer than a time budget, set on a node with {@link EventNode#setWatchdog(ListenerWatchdog)}.
+ * <p>
+ * Budgets can be defined for the whole node and overridden per event type.
+ * Slow listeners are reported to the sink, or to the exception handler of the node
+ * as a {@link SlowListenerException} when none is defined.
+ */
+@ApiStatus.Experimental
+public final class ListenerWatchdog {
+    private final long budgetNanos;
+    private final Map<Class<?>, Long> eventBudgets;
+    private final @Nullable Consumer<Report> sink;
+
+    private ListenerWatchdog(long budgetNanos, Map<Class<?>, Long> eventBudgets, @Nullable Consumer<Report> sink) {
+        this.budgetNanos = budgetNanos;
+        this.eventBudgets = eventBudgets;
+        this.sink = sink;
+    }
+
+    @Contract(value = "-> new", pure = true)
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the budget of an event type, the one of the exact type first,
+     * then the first one defined for a supertype, and finally the node budget.
+     *
+     * @param eventType the event type
+     * @return the budget in nanoseconds, {@link Long#MAX_VALUE} if there is none
+     */
+    long budgetNanos(@NotNull Class<?> eventType) {
+        final Long exact = eventBudgets.get(eventType);
+        if (exact != null) return exact;
+        for (var entry : eventBudgets.entrySet()) {
+            if (entry.getKey().isAssignableFrom(eventType)) return entry.getValue();
+        }
+        return budgetNanos;
+    }
+
+    void report(@NotNull Report report, @NotNull Consumer<Throwable> exceptionHandler) {
+        final Consumer<Report> sink = this.sink;
+        if (sink != null) {
+            sink.accept(report);
+        } else {
+            exceptionHandler.accept(new SlowListenerException(report));
+        }
+    }
+
+    public static final class Builder {
+        private long budgetNanos = Long.MAX_VALUE;
+        private final Map<Class<?>, Long> eventBudgets = new LinkedHashMap<>();
+        private Consumer<Report> sink;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the budget of every listener of the node.
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull Builder budget(@NotNull Duration budget) {
+            this.budgetNanos = budget.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the budget of the listeners receiving {@code eventType} or its subtypes, overriding the node budget.
+         */
+        @Contract(value = "_, _ -> this")
+        public @NotNull Builder budget(@NotNull Class<?> eventType, @NotNull Duration budget) {
+            this.eventBudgets.put(eventType, budget.toNanos());
+            return this;
+        }
+
+        /**
+         * Sets where reports are sent, defaults to the exception handler of the node.
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull Builder sink(@Nullable Consumer<Report> sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        @Contract(value = "-> new", pure = true)
+        public @NotNull ListenerWatchdog build() {
+            // Insertion order kept, the first budget defined for a supertype applies
+            return new ListenerWatchdog(budgetNanos, Collections.unmodifiableMap(new LinkedHashMap<>(eventBudgets)), sink);
+        }
+    }
+
+    /**
+     * A listener invocation over budget.
+     *
+     * @param nodePath       the names of the nodes from the root to the node of the listener, separated by {@code /}
+     * @param listener       the slow listener
+     * @param eventType      the type of the dispatched event
+     * @param durationNanos  the duration of the invocation
+     * @param budgetNanos    the exceeded budget
+     */
+    public record Report(@NotNull String nodePath, @NotNull EventListener<?> listener, @NotNull Class<?> eventType,
+                         long durationNanos, long budgetNanos) {
+        @Override
+        public String toString() {
+            return "Listener " + EventMetrics.listenerName(listener) + " in " + nodePath +
+                    " took " + Duration.ofNanos(durationNanos).toMillis() + "ms to handle " + eventType.getSimpleName() +
+                    " (budget: " + Duration.ofNanos(budgetNanos).toMillis() + "ms)";
+        }
+    }
+
+    /**
+     * Reported to the exception handler of the node when the watchdog has no sink, without stack trace.
+     */
+    public static final class SlowListenerException extends RuntimeException {
+        private final transient Report report;
+
+        SlowListenerException(@NotNull Report report) {
+            super(report.toString(), null, false, false);
+            this.report = report;
+        }
+
+        public @NotNull Report report() {
+            return report;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Represents a filter whose handler is a long, such as a database id.
+ * <p>
+ * Used by {@link EventNode#mapLong(long, LongEventFilter)} to route events without boxing the handler.
+ *
+ * @param <E> The event type to filter
+ */
+@ApiStatus.Experimental
+public interface LongEventFilter<E> extends EventFilter<E, Long> {
+
+    static <E> @NotNull LongEventFilter<E> from(@NotNull Class<E> eventType, @NotNull ToLongFunction<E> handlerGetter) {
+        return new LongEventFilter<>() {
+            @Override
+            public long getLongHandler(@NotNull E event) {
+                return handlerGetter.applyAsLong(event);
+            }
+
+            @Override
+            public @NotNull Class<E> eventType() {
+                return eventType;
+            }
+        };
+    }
+
+    /**
+     * Gets the handler for the given event instance.
+     *
+     * @param event The event instance
+     * @return The handler
+     */
+    long getLongHandler(@NotNull E event);
+
+    @Override
+    default @NotNull Long getHandler(@NotNull E event) {
+        return getLongHandler(event);
+    }
+
+    @Override
+    default @NotNull Class<Long> handlerType() {
+        return Long.class;
+    }
+}
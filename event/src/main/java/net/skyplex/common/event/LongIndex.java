@@ -0,0 +1,56 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Immutable map from long keys to values, backed by an open-addressing table.
+ * <p>
+ * Built once per handle rebuild and then read concurrently without synchronization, lookups neither box nor allocate.
+ *
+ * @param <V> the value type
+ */
+final class LongIndex<V> {
+    private final long[] keys;
+    private final V[] values;
+    private final int shift;
+
+    @SuppressWarnings("unchecked")
+    LongIndex(@NotNull Map<Long, ? extends V> entries) {
+        // Keep the load factor under 0.5 for short probe sequences
+        final int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = (V[]) new Object[capacity];
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        final int mask = capacity - 1;
+        for (var entry : entries.entrySet()) {
+            final long key = entry.getKey();
+            int index = index(key);
+            while (values[index] != null) index = (index + 1) & mask;
+            keys[index] = key;
+            values[index] = entry.getValue();
+        }
+    }
+
+    @Nullable V get(long key) {
+        final long[] keys = this.keys;
+        final V[] values = this.values;
+        final int mask = keys.length - 1;
+        int index = index(key);
+        V value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) return value;
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Fibonacci hashing, spreads sequential ids over the whole table.
+     */
+    private int index(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+}
@@ -0,0 +1,367 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bounded queues processing the events of nodes asynchronously, set with {@link EventNode#setQueue(ShardedEventQueue)}.
+ * <p>
+ * Events are assigned to a shard by the handler of the node filter, such as a player, and each shard
+ * is processed by a single thread at a time in FIFO order. Events of a handler are therefore handled in order,
+ * while events of different handlers are handled in parallel across the shards.
+ * <p>
+ * A full shard applies the {@link Backpressure} policy of the queue.
+ */
+@ApiStatus.Experimental
+public final class ShardedEventQueue {
+    /**
+     * Tasks processed by a shard before its drain is submitted again to the executor.
+     */
+    private static final int DRAIN_BATCH = 256;
+
+    private final Shard[] shards;
+    private final int capacity;
+    private final Backpressure backpressure;
+    private final Executor executor;
+    private final LongAdder dropped = new LongAdder();
+
+    private ShardedEventQueue(int shardCount, int capacity, Backpressure backpressure, Executor executor) {
+        this.capacity = capacity;
+        this.backpressure = backpressure;
+        this.executor = executor;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) shards[i] = new Shard();
+    }
+
+    @Contract(value = "-> new", pure = true)
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the number of shards.
+     *
+     * @return the shard count
+     */
+    public int shards() {
+        return shards.length;
+    }
+
+    /**
+     * Gets the number of tasks waiting in a shard, each task being an event or the events of a batch in the shard.
+     *
+     * @param shard the shard index
+     * @return the shard depth
+     */
+    public int depth(int shard) {
+        return shards[shard].depth();
+    }
+
+    /**
+     * Gets the number of tasks waiting in every shard.
+     *
+     * @return the total depth
+     */
+    public int depth() {
+        int depth = 0;
+        for (Shard shard : shards) depth += shard.depth();
+        return depth;
+    }
+
+    /**
+     * Gets the number of tasks dropped by {@link Backpressure#DROP_OLDEST}.
+     *
+     * @return the dropped task count
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Queues a task in the shard of {@code key}.
+     */
+    void execute(@Nullable Object key, @NotNull Runnable task) {
+        shards[shardIndex(key)].offer(task);
+    }
+
+    /**
+     * Queues the events of a batch, one task per shard keeping the order of the events in each of them.
+     */
+    @SuppressWarnings("unchecked")
+    <E> void executeAll(@NotNull List<E> events, @NotNull Function<E, @Nullable Object> keyGetter,
+                        @NotNull Consumer<List<E>> consumer) {
+        final List<E>[] groups = new List[shards.length];
+        for (E event : events) {
+            final int index = shardIndex(keyGetter.apply(event));
+            List<E> group = groups[index];
+            if (group == null) groups[index] = group = new ArrayList<>();
+            group.add(event);
+        }
+        for (int i = 0; i < groups.length; i++) {
+            final List<E> group = groups[i];
+            if (group != null) shards[i].offer(() -> consumer.accept(group));
+        }
+    }
+
+    private int shardIndex(@Nullable Object key) {
+        final int hash = Objects.hashCode(key);
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+
+    /**
+     * Policy applied when an event is queued in a full shard.
+     */
+    public enum Backpressure {
+        /**
+         * Waits for the shard to have room, the default.
+         * Queuing from the thread processing the shard would never return.
+         */
+        BLOCK,
+        /**
+         * Drops the oldest task of the shard, counted by {@link #dropped()}.
+         */
+        DROP_OLDEST,
+        /**
+         * Runs the task on the calling thread, possibly before older events of the same handler.
+         */
+        CALLER_RUNS
+    }
+
+    public static final class Builder {
+        private int shards = Runtime.getRuntime().availableProcessors();
+        private int capacity = 1024;
+        private Backpressure backpressure = Backpressure.BLOCK;
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of shards, the number of processors by default.
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull Builder shards(int shards) {
+            Check.argCondition(shards <= 0, "Invalid shard count: {0}", shards);
+            this.shards = shards;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tasks waiting in a shard, 1024 by default.
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull Builder capacity(int capacity) {
+            Check.argCondition(capacity <= 0, "Invalid capacity: {0}", capacity);
+            this.capacity = capacity;
+            return this;
+        }
+
+        @Contract(value = "_ -> this")
+        public @NotNull Builder backpressure(@NotNull Backpressure backpressure) {
+            this.backpressure = backpressure;
+            return this;
+        }
+
+        /**
+         * Sets the executor processing the shards, the common pool by default.
+         * A shard whose drain is rejected by the executor is drained by the thread which submitted it.
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull Builder executor(@NotNull Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Contract(value = "-> new", pure = true)
+        public @NotNull ShardedEventQueue build() {
+            return new ShardedEventQueue(shards, capacity, backpressure, executor);
+        }
+    }
+
+    /**
+     * Lock-free multi-producer single-consumer linked queue, the consumer being
+     * the single drain task submitted to the executor while the shard is not empty.
+     */
+    private final class Shard implements Runnable {
+        private final AtomicReference<Node> tail;
+        private Node head;
+        private final AtomicInteger depth = new AtomicInteger();
+        /**
+         * Tasks to drop instead of running, requested by producers of a full shard.
+         */
+        private final AtomicInteger drops = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        /**
+         * Only used by producers blocked on a full shard.
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();
+
+        Shard() {
+            final Node stub = new Node(null);
+            this.head = stub;
+            this.tail = new AtomicReference<>(stub);
+        }
+
+        int depth() {
+            return Math.max(0, depth.get() - drops.get());
+        }
+
+        void offer(Runnable task) {
+            if (!reserve(task)) return;
+            final Node node = new Node(task);
+            tail.getAndSet(node).next = node;
+            if (!scheduled.get() && scheduled.compareAndSet(false, true)) schedule();
+        }
+
+        /**
+         * Submits the drain, marked as scheduled by the caller.
+         */
+        private void schedule() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Still scheduled, no other thread can drain the shard meanwhile
+                run();
+            } catch (Throwable e) {
+                scheduled.set(false);
+                throw e;
+            }
+        }
+
+        /**
+         * Counts the task in the depth, applying the backpressure policy if the shard is full.
+         *
+         * @return true if the task has to be queued
+         */
+        private boolean reserve(Runnable task) {
+            while (true) {
+                final int current = depth.get();
+                if (current - drops.get() < capacity) {
+                    if (depth.compareAndSet(current, current + 1)) return true;
+                    continue;
+                }
+                switch (backpressure) {
+                    case BLOCK -> awaitNotFull();
+                    case DROP_OLDEST -> {
+                        drops.incrementAndGet();
+                        depth.incrementAndGet();
+                        return true;
+                    }
+                    case CALLER_RUNS -> {
+                        task.run();
+                        return false;
+                    }
+                }
+            }
+        }
+
+        private void awaitNotFull() {
+            lock.lock();
+            try {
+                while (depth.get() - drops.get() >= capacity) notFull.awaitUninterruptibly();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Called by the drain task only.
+         */
+        private @Nullable Runnable poll() {
+            Node next = head.next;
+            if (next == null) {
+                if (tail.get() == head) return null;
+                // A producer swapped the tail but did not link its node yet
+                while ((next = head.next) == null) Thread.onSpinWait();
+            }
+            head = next;
+            final Runnable task = next.task;
+            next.task = null;
+            return task;
+        }
+
+        @Override
+        public void run() {
+            while (drain()) {
+                // Bounds the time spent in a single task of the executor. A ForkJoinPool worker pops
+                // its own queue first and usually runs it again right away, other shards progress on other workers
+                try {
+                    executor.execute(this);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // Keep draining from this thread, the shard is still scheduled
+                } catch (Throwable e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        /**
+         * Runs up to {@link #DRAIN_BATCH} tasks.
+         *
+         * @return true if tasks may remain, the shard being still scheduled
+         */
+        private boolean drain() {
+            for (int processed = 0; processed < DRAIN_BATCH; processed++) {
+                final Runnable task = poll();
+                if (task == null) {
+                    scheduled.set(false);
+                    // Lost race with a producer which saw the drain as scheduled
+                    if (tail.get() == head || !scheduled.compareAndSet(false, true)) return false;
+                    continue;
+                }
+                if (depth.getAndDecrement() >= capacity && backpressure == Backpressure.BLOCK) signalNotFull();
+                int pendingDrops = drops.get();
+                if (pendingDrops > 0 && drops.compareAndSet(pendingDrops, pendingDrops - 1)) {
+                    dropped.increment();
+                    continue;
+                }
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    // Node tasks handle their exceptions, keep the shard alive regardless
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+            return true;
+        }
+
+        private void signalNotFull() {
+            lock.lock();
+            try {
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Node {
+        private Runnable task;
+        private volatile Node next;
+
+        Node(Runnable task) {
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package net.skyplex.common.event;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+
+/**
+ * Immutable identity map holding both its keys and values weakly, backed by an open-addressing table.
+ * <p>
+ * Built once per handle rebuild and then read concurrently without synchronization, lookups do not allocate.
+ * Entries whose key or value has been garbage collected are ignored until the next rebuild.
+ *
+ * @param <V> the value type
+ */
+final class WeakIdentityIndex<V> {
+    private final Entry<V>[] table;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    WeakIdentityIndex(@NotNull Map<?, ? extends V> entries) {
+        // Keep the load factor under 0.5 for short probe sequences
+        final int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+        this.table = new Entry[capacity];
+        this.mask = capacity - 1;
+        for (var entry : entries.entrySet()) {
+            int index = hash(entry.getKey()) & mask;
+            while (table[index] != null) index = (index + 1) & mask;
+            table[index] = new Entry<>(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Nullable V get(@Nullable Object key) {
+        if (key == null) return null;
+        final Entry<V>[] table = this.table;
+        int index = hash(key) & mask;
+        Entry<V> entry;
+        while ((entry = table[index]) != null) {
+            if (entry.get() == key) return entry.value.get();
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int hash(Object key) {
+        final int hash = System.identityHashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry<V> extends WeakReference<Object> {
+        final WeakReference<V> value;
+
+        Entry(Object key, V value) {
+            super(key);
+            this.value = new WeakReference<>(value);
+        }
+    }
+}
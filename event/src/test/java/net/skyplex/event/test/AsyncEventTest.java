@@ -0,0 +1,174 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.CancellableEvent;
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AsyncEventTest {
+
+    @Test
+    public void callAsyncRunsOnExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            var node = EventNode.all("root");
+            node.setExecutor(executor);
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            node.addListener(TestEvent.class, event -> thread.set(Thread.currentThread()));
+
+            TestEvent event = new TestEvent();
+            Assertions.assertSame(event, node.callAsync(event).get(5, TimeUnit.SECONDS));
+            Assertions.assertNotNull(thread.get());
+            Assertions.assertFalse(thread.get() == Thread.currentThread());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void callAsyncDefaultExecutor() throws Exception {
+        var node = EventNode.all("root");
+        AtomicBoolean called = new AtomicBoolean();
+        node.addListener(TestEvent.class, event -> called.set(true));
+        node.callAsync(new TestEvent()).get(5, TimeUnit.SECONDS);
+        Assertions.assertTrue(called.get());
+    }
+
+    @Test
+    public void asyncChildDoesNotBlockCaller() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            var node = EventNode.all("root");
+            var child = EventNode.all("child");
+            child.setExecutor(executor);
+            node.addChild(child);
+
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+            child.addListener(TestEvent.class, event -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                done.countDown();
+            });
+            node.call(new TestEvent()); // Would never return if the child was synchronous
+            release.countDown();
+            Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void asyncCancellation() throws Exception {
+        var node = EventNode.all("root");
+        node.addListener(CancellableTestEvent.class, event -> event.setCancelled(true));
+        AtomicBoolean cancelledCalled = new AtomicBoolean();
+        node.addListener(CancellableTestEvent.class, event -> cancelledCalled.set(true));
+        AtomicBoolean success = new AtomicBoolean();
+
+        var event = (CancellableTestEvent) node.callCancellableAsync(new CancellableTestEvent(), () -> success.set(true))
+                .get(5, TimeUnit.SECONDS);
+        Assertions.assertTrue(event.isCancelled());
+        Assertions.assertFalse(cancelledCalled.get(), "Listeners ignoring cancelled events must be skipped");
+        Assertions.assertFalse(success.get());
+    }
+
+    @Test
+    public void asyncChildCannotCancel() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            var node = EventNode.all("root");
+            var child = EventNode.all("child");
+            child.setExecutor(executor);
+            node.addChild(child);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+            child.addListener(CancellableTestEvent.class, event -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                event.setCancelled(true);
+                done.countDown();
+            });
+            AtomicBoolean success = new AtomicBoolean();
+            node.callCancellable(new CancellableTestEvent(), () -> success.set(true));
+            Assertions.assertTrue(success.get());
+            release.countDown();
+            Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void asyncExceptionHandler() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            var node = EventNode.all("root");
+            var child = EventNode.all("child");
+            child.setExecutor(executor);
+            node.addChild(child);
+            CountDownLatch handled = new CountDownLatch(1);
+            node.setExceptionHandler(throwable -> handled.countDown());
+            child.addListener(EventListener.of(TestEvent.class, event -> {
+                throw new IllegalStateException("Expected");
+            }));
+            node.call(new TestEvent());
+            Assertions.assertTrue(handled.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void rejectedChild() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown(); // Rejects every task
+        var node = EventNode.all("root");
+        var rejecting = EventNode.all("rejecting");
+        var sibling = EventNode.all("sibling");
+        rejecting.setExecutor(executor);
+        node.addChild(rejecting);
+        node.addChild(sibling);
+        AtomicReference<Throwable> handled = new AtomicReference<>();
+        rejecting.setExceptionHandler(handled::set);
+        rejecting.addListener(TestEvent.class, event -> Assertions.fail("Rejected by the executor"));
+        AtomicBoolean called = new AtomicBoolean();
+        sibling.addListener(TestEvent.class, event -> called.set(true));
+
+        node.call(new TestEvent());
+        Assertions.assertInstanceOf(RejectedExecutionException.class, handled.get());
+        Assertions.assertTrue(called.get(), "Siblings must still receive the event");
+    }
+
+    static final class TestEvent {
+    }
+
+    static final class CancellableTestEvent implements CancellableEvent {
+        private volatile boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+}
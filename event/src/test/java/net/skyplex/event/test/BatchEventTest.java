@@ -0,0 +1,110 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventBinding;
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.RecursiveEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchEventTest {
+
+    @Test
+    public void listenerMajorOrder() {
+        var node = EventNode.all("root");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        List<String> calls = new ArrayList<>();
+        node.addListener(TestEvent.class, event -> calls.add("first-" + event.id()));
+        node.addListener(TestEvent.class, event -> calls.add("second-" + event.id()));
+        child.addListener(TestEvent.class, event -> calls.add("child-" + event.id()));
+
+        node.callAll(List.of(new TestEvent(0), new TestEvent(1)));
+        Assertions.assertEquals(List.of("first-0", "first-1", "second-0", "second-1", "child-0", "child-1"), calls);
+    }
+
+    @Test
+    public void predicate() {
+        var node = EventNode.value("root", EventFilter.from(TestEvent.class, Integer.class, TestEvent::id), id -> id % 2 == 0);
+        AtomicInteger count = new AtomicInteger();
+        node.addListener(TestEvent.class, event -> count.incrementAndGet());
+        node.callAll(List.of(new TestEvent(0), new TestEvent(1), new TestEvent(2)));
+        Assertions.assertEquals(2, count.get());
+    }
+
+    @Test
+    public void expiration() {
+        var node = EventNode.all("root");
+        AtomicInteger count = new AtomicInteger();
+        node.addListener(EventListener.builder(TestEvent.class)
+                .handler(event -> count.incrementAndGet())
+                .expireCount(2)
+                .build());
+        node.callAll(List.of(new TestEvent(0), new TestEvent(1), new TestEvent(2)));
+        Assertions.assertEquals(2, count.get());
+        node.callAll(List.of(new TestEvent(3)));
+        Assertions.assertEquals(2, count.get());
+    }
+
+    @Test
+    public void mixedTypes() {
+        var node = EventNode.all("root");
+        List<Object> calls = new ArrayList<>();
+        node.addListener(TestEvent.class, calls::add);
+        node.addListener(OtherEvent.class, calls::add);
+        var first = new TestEvent(0);
+        var second = new OtherEvent();
+        node.callAll(List.of(first, second));
+        Assertions.assertEquals(List.of(first, second), calls);
+    }
+
+    @Test
+    public void recursiveOrder() {
+        var node = EventNode.all("root");
+        List<String> single = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+        List<String> calls = new ArrayList<>();
+        node.addListener(BaseEvent.class, event -> calls.add("base-listener"));
+        node.register(EventBinding.filtered(EventFilter.ALL, ignored -> true)
+                .map(BaseEvent.class, (ignored, event) -> calls.add("base-binding"))
+                .map(SubEvent.class, (ignored, event) -> calls.add("sub-binding"))
+                .build());
+        node.addListener(SubEvent.class, event -> calls.add("sub-listener"));
+
+        node.call(new SubEvent());
+        single.addAll(calls);
+        calls.clear();
+        node.callAll(List.of(new SubEvent()));
+        batch.addAll(calls);
+        Assertions.assertEquals(List.of("sub-listener", "sub-binding", "base-listener", "base-binding"), single);
+        Assertions.assertEquals(single, batch);
+    }
+
+    @Test
+    public void handleMixedTypes() {
+        var node = EventNode.all("root");
+        List<Object> calls = new ArrayList<>();
+        node.addListener(BaseEvent.class, event -> calls.add("base"));
+        node.addListener(SubEvent.class, event -> calls.add("sub"));
+        // Subtypes given to the handle of their supertype still reach their own listeners
+        node.getHandle(BaseEvent.class).callAll(List.of(new BaseEvent(), new SubEvent()));
+        Assertions.assertEquals(List.of("base", "sub", "base"), calls);
+    }
+
+    record TestEvent(int id) {
+    }
+
+    static class BaseEvent implements RecursiveEvent {
+    }
+
+    static final class SubEvent extends BaseEvent {
+    }
+
+    record OtherEvent() {
+    }
+}
@@ -0,0 +1,95 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.CancellableEvent;
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CancellationTest {
+
+    @Test
+    public void skipAfterCancellation() {
+        var node = EventNode.all("root");
+        AtomicInteger predicateCalls = new AtomicInteger();
+        var child = EventNode.event("child", EventFilter.ALL, event -> {
+            predicateCalls.incrementAndGet();
+            return true;
+        });
+        node.addChild(child);
+        AtomicInteger skipped = new AtomicInteger();
+        node.addListener(TestEvent.class, event -> event.setCancelled(true));
+        node.addListener(TestEvent.class, event -> skipped.incrementAndGet());
+        child.addListener(TestEvent.class, event -> skipped.incrementAndGet());
+
+        var event = new TestEvent();
+        node.call(event);
+        Assertions.assertTrue(event.isCancelled());
+        Assertions.assertEquals(0, skipped.get());
+        Assertions.assertEquals(0, predicateCalls.get());
+    }
+
+    @Test
+    public void receiveCancelled() {
+        var node = EventNode.all("root");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        AtomicInteger received = new AtomicInteger();
+        node.addListener(TestEvent.class, event -> event.setCancelled(true));
+        child.addListener(EventListener.builder(TestEvent.class)
+                .ignoreCancelled(false)
+                .handler(event -> received.incrementAndGet())
+                .build());
+        // Listeners not built by the builder receive cancelled events by default
+        child.addListener(new EventListener<TestEvent>() {
+            @Override
+            public Class<TestEvent> eventType() {
+                return TestEvent.class;
+            }
+
+            @Override
+            public Result run(TestEvent event) {
+                received.incrementAndGet();
+                return Result.SUCCESS;
+            }
+        });
+
+        node.call(new TestEvent());
+        Assertions.assertEquals(2, received.get());
+    }
+
+    @Test
+    public void resumeAfterUncancel() {
+        var node = EventNode.all("root");
+        AtomicInteger received = new AtomicInteger();
+        node.addListener(TestEvent.class, event -> event.setCancelled(true));
+        node.addListener(TestEvent.class, event -> received.incrementAndGet());
+        node.addListener(EventListener.builder(TestEvent.class)
+                .ignoreCancelled(false)
+                .handler(event -> event.setCancelled(false))
+                .build());
+        node.addListener(TestEvent.class, event -> received.incrementAndGet());
+
+        var event = new TestEvent();
+        node.call(event);
+        Assertions.assertFalse(event.isCancelled());
+        Assertions.assertEquals(1, received.get());
+    }
+
+    static final class TestEvent implements CancellableEvent {
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+}
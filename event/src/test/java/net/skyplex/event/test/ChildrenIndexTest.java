@@ -0,0 +1,138 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ChildrenIndexTest {
+
+    @Test
+    public void findNested() {
+        var root = EventNode.all("root");
+        var first = EventNode.all("feature");
+        var middle = EventNode.all("middle");
+        var nested = EventNode.all("feature");
+        root.addChild(first);
+        root.addChild(middle);
+        middle.addChild(nested);
+        first.addChild(EventNode.type("feature", EventFilter.from(TestEvent.class, null, null)));
+
+        Assertions.assertEquals(3, root.findChildren("feature").size());
+        Assertions.assertEquals(1, root.findChildren("feature", TestEvent.class).size());
+        Assertions.assertEquals(List.of(nested), middle.findChildren("feature"));
+        Assertions.assertEquals(List.of(), nested.findChildren("feature"));
+        Assertions.assertEquals(List.of(), root.findChildren("unknown"));
+    }
+
+    @Test
+    public void followMoves() {
+        var root = EventNode.all("root");
+        var other = EventNode.all("other");
+        var parent = EventNode.all("parent");
+        var child = EventNode.all("child");
+        parent.addChild(child);
+        root.addChild(parent);
+        Assertions.assertEquals(List.of(child), root.findChildren("child"));
+
+        root.removeChild(parent);
+        Assertions.assertEquals(List.of(), root.findChildren("child"));
+        Assertions.assertEquals(List.of(child), parent.findChildren("child"));
+
+        other.addChild(parent);
+        Assertions.assertEquals(List.of(child), other.findChildren("child"));
+        Assertions.assertEquals(List.of(parent), other.findChildren("parent"));
+    }
+
+    @Test
+    public void excludeMappedNodes() {
+        var root = EventNode.all("root");
+        var mapped = root.map("owner", EventFilter.from(Object.class, String.class, event -> "owner"));
+        var child = EventNode.all("child");
+        mapped.addChild(child);
+        Assertions.assertEquals(List.of(), root.findChildren("child"));
+        Assertions.assertEquals(List.of(child), mapped.findChildren("child"));
+    }
+
+    @Test
+    public void removeAndReplace() {
+        var root = EventNode.all("root");
+        var feature = EventNode.all("feature");
+        var nested = EventNode.all("feature");
+        var sibling = EventNode.all("sibling");
+        root.addChild(feature);
+        root.addChild(sibling);
+        feature.addChild(nested);
+        sibling.addChild(EventNode.all("feature"));
+
+        root.removeChildren("feature");
+        Assertions.assertEquals(Set.of(sibling), root.getChildren());
+        Assertions.assertTrue(sibling.getChildren().isEmpty());
+        // Removed with its parent, not detached from it
+        Assertions.assertEquals(feature, nested.getParent());
+
+        var replaced = EventNode.all("replaced");
+        sibling.addChild(feature);
+        root.replaceChildren("feature", replaced);
+        Assertions.assertEquals(Set.of(replaced), sibling.getChildren());
+        Assertions.assertNull(feature.getParent());
+        Assertions.assertEquals(List.of(replaced), root.findChildren("replaced"));
+    }
+
+    @Test
+    public void liveChildren() {
+        var root = EventNode.all("root");
+        var children = root.getChildren();
+        Assertions.assertTrue(children.isEmpty());
+
+        var child = EventNode.all("child");
+        root.addChild(child);
+        Assertions.assertEquals(Set.of(child), children);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> children.remove(child));
+        Assertions.assertThrows(UnsupportedOperationException.class, children::clear);
+
+        root.removeChild(child);
+        Assertions.assertTrue(children.isEmpty());
+    }
+
+    @Test
+    public void replaceConcurrently() throws Exception {
+        // Replacements created first, their trees are ordered before the one of the root
+        var replacements = List.of(EventNode.all("feature"), EventNode.all("feature"));
+        var root = EventNode.all("root");
+        var parent = EventNode.all("parent");
+        root.addChild(parent);
+        parent.addChild(EventNode.all("feature"));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread mutator = new Thread(() -> {
+            while (running.get()) {
+                for (var replacement : replacements) {
+                    var other = EventNode.all("other");
+                    replacement.addChild(other);
+                    replacement.removeChild(other);
+                }
+            }
+        });
+        mutator.start();
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                var replacement = replacements.get(i % 2);
+                root.replaceChildren("feature", replacement);
+                Assertions.assertEquals(parent, replacement.getParent());
+            }
+        } finally {
+            running.set(false);
+            mutator.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        Assertions.assertFalse(mutator.isAlive());
+    }
+
+    record TestEvent() {
+    }
+}
@@ -0,0 +1,135 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventBinding;
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.ListenerCircuitBreaker;
+import net.skyplex.common.event.ListenerCircuitBreaker.ListenerDisabledException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void isolateFailures() {
+        var node = EventNode.all("root");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        List<Throwable> exceptions = new ArrayList<>();
+        node.setExceptionHandler(exceptions::add);
+        AtomicInteger calls = new AtomicInteger();
+        node.addListener(TestEvent.class, event -> {
+            throw new IllegalStateException("failure");
+        });
+        node.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        child.addListener(TestEvent.class, event -> calls.incrementAndGet());
+
+        node.call(new TestEvent());
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(1, exceptions.size());
+        Assertions.assertEquals("failure", exceptions.get(0).getMessage());
+    }
+
+    @Test
+    public void isolateBindings() {
+        var node = EventNode.all("root");
+        node.setCircuitBreaker(ListenerCircuitBreaker.builder()
+                .failureThreshold(2)
+                .build());
+        List<Throwable> exceptions = new ArrayList<>();
+        node.setExceptionHandler(exceptions::add);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger bindingCalls = new AtomicInteger();
+        node.register(EventBinding.filtered(EventFilter.from(TestEvent.class, null, null), ignored -> true)
+                .map(TestEvent.class, (ignored, event) -> {
+                    bindingCalls.incrementAndGet();
+                    throw new IllegalStateException("failure");
+                })
+                .build());
+        var child = EventNode.all("child");
+        node.addChild(child);
+        child.addListener(TestEvent.class, event -> calls.incrementAndGet());
+
+        for (int i = 0; i < 3; i++) node.call(new TestEvent());
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertEquals(2, bindingCalls.get());
+        Assertions.assertEquals(2, exceptions.size());
+        Assertions.assertEquals("failure", exceptions.get(0).getMessage());
+        Assertions.assertInstanceOf(ListenerDisabledException.class, exceptions.get(1));
+    }
+
+    @Test
+    public void isolateFilters() {
+        var node = EventNode.all("root");
+        List<Throwable> exceptions = new ArrayList<>();
+        node.setExceptionHandler(exceptions::add);
+        AtomicInteger calls = new AtomicInteger();
+        var failing = EventNode.value("failing", EventFilter.from(TestEvent.class, Object.class, event -> {
+            throw new IllegalStateException("filter");
+        }), ignored -> true);
+        failing.setPriority(-1);
+        failing.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        node.addChild(failing);
+        var mapped = node.map("owner", EventFilter.from(TestEvent.class, String.class, event -> {
+            throw new IllegalStateException("mapping");
+        }));
+        mapped.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        var child = EventNode.all("child");
+        child.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        node.addChild(child);
+
+        node.call(new TestEvent());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(List.of("filter", "mapping"), exceptions.stream().map(Throwable::getMessage).sorted().toList());
+    }
+
+    @Test
+    public void disableAfterFailures() throws InterruptedException {
+        var node = EventNode.all("root");
+        node.setCircuitBreaker(ListenerCircuitBreaker.builder()
+                .failureThreshold(3)
+                .coolDown(Duration.ofMillis(100))
+                .build());
+        List<Throwable> exceptions = new ArrayList<>();
+        node.setExceptionHandler(exceptions::add);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        node.addListener(TestEvent.class, event -> {
+            calls.incrementAndGet();
+            if (failing.get()) throw new IllegalStateException("failure");
+        });
+
+        for (int i = 0; i < 5; i++) node.call(new TestEvent());
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertEquals(3, exceptions.size());
+        final ListenerDisabledException disabled = (ListenerDisabledException) exceptions.get(2);
+        Assertions.assertEquals(3, disabled.failures());
+        Assertions.assertEquals("failure", disabled.getCause().getMessage());
+
+        // Failing again after the cool-down disables it right away
+        Thread.sleep(150);
+        node.call(new TestEvent());
+        node.call(new TestEvent());
+        Assertions.assertEquals(4, calls.get());
+        Assertions.assertInstanceOf(ListenerDisabledException.class, exceptions.get(3));
+
+        // A success closes the breaker
+        Thread.sleep(150);
+        failing.set(false);
+        node.call(new TestEvent());
+        failing.set(true);
+        node.call(new TestEvent());
+        Assertions.assertEquals(6, calls.get());
+        Assertions.assertEquals(5, exceptions.size());
+        Assertions.assertInstanceOf(IllegalStateException.class, exceptions.get(4));
+    }
+
+    record TestEvent() {
+    }
+}
@@ -0,0 +1,74 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CoalescingNodeTest {
+    private static final EventFilter<MoveEvent, Integer> ENTITY_FILTER =
+            EventFilter.from(MoveEvent.class, Integer.class, MoveEvent::entityId);
+
+    @Test
+    public void keepLatest() {
+        var node = EventNode.all("root");
+        var coalescing = EventNode.coalescing("moves", ENTITY_FILTER);
+        node.addChild(coalescing);
+        Map<Integer, Integer> positions = new ConcurrentHashMap<>();
+        AtomicInteger calls = new AtomicInteger();
+        coalescing.addListener(MoveEvent.class, event -> {
+            calls.incrementAndGet();
+            positions.put(event.entityId(), event.x());
+        });
+
+        for (int x = 0; x < 100; x++) {
+            node.call(new MoveEvent(1, x));
+            node.call(new MoveEvent(2, -x));
+        }
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals(2, coalescing.flush());
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(Map.of(1, 99, 2, -99), positions);
+        Assertions.assertEquals(0, coalescing.flush());
+    }
+
+    @Test
+    public void merge() {
+        var coalescing = EventNode.coalescing("moves", ENTITY_FILTER,
+                (previous, next) -> new MoveEvent(next.entityId(), previous.x() + next.x()));
+        AtomicInteger total = new AtomicInteger();
+        coalescing.addListener(MoveEvent.class, event -> total.addAndGet(event.x()));
+
+        coalescing.callAll(List.of(new MoveEvent(1, 1), new MoveEvent(1, 2), new MoveEvent(1, 3)));
+        coalescing.call(new MoveEvent(1, 4));
+        Assertions.assertEquals(1, coalescing.flush());
+        Assertions.assertEquals(10, total.get());
+    }
+
+    @Test
+    public void scheduledFlush() throws InterruptedException {
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            var coalescing = EventNode.coalescing("moves", ENTITY_FILTER);
+            CountDownLatch latch = new CountDownLatch(1);
+            coalescing.addListener(MoveEvent.class, event -> latch.countDown());
+            coalescing.scheduleFlush(scheduler, Duration.ofMillis(10));
+            coalescing.call(new MoveEvent(1, 0));
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    record MoveEvent(int entityId, int x) {
+    }
+}
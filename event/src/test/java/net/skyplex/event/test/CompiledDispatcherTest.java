@@ -0,0 +1,106 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.CancellableEvent;
+import net.skyplex.common.event.EventBinding;
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Frozen graphs are always dispatched by compiled consumers, compared here to the lambda chain of the same graph.
+ */
+public class CompiledDispatcherTest {
+
+    @Test
+    public void matchLambdaDispatch() {
+        // Up to the step limit of a compiled consumer, and past it
+        for (int steps : new int[]{3, 8, 256, 257}) {
+            Assertions.assertEquals(dispatch(steps, false, true, TestEvent.class, TestEvent::new),
+                    dispatch(steps, true, true, TestEvent.class, TestEvent::new), "steps: " + steps);
+        }
+    }
+
+    @Test
+    public void matchCancellableDispatch() {
+        for (int steps : new int[]{3, 8, 256}) {
+            // Compiled when every step receives cancelled events, skipping the others otherwise
+            for (boolean ignoreCancelled : new boolean[]{false, true}) {
+                var lambda = dispatch(steps, false, ignoreCancelled, CancellableTestEvent.class, CancellableTestEvent::new);
+                var compiled = dispatch(steps, true, ignoreCancelled, CancellableTestEvent.class, CancellableTestEvent::new);
+                Assertions.assertEquals(lambda, compiled, "steps: " + steps);
+            }
+        }
+    }
+
+    /**
+     * Calls a graph of {@code steps} root steps three times: listeners failing, expiring, cancelling the event
+     * and bindings, followed by a mapped node and a child.
+     *
+     * @return the steps reached and the failures reported, in order
+     */
+    private static <E> List<String> dispatch(int steps, boolean frozen, boolean ignoreCancelled,
+                                             Class<E> type, Supplier<E> events) {
+        var root = EventNode.all("root");
+        List<String> log = new ArrayList<>();
+        root.setExceptionHandler(e -> log.add("failed " + e.getMessage()));
+        for (int i = 0; i < steps - 2; i++) {
+            final String name = String.valueOf(i);
+            var builder = EventListener.builder(type).ignoreCancelled(ignoreCancelled);
+            switch (i % 5) {
+                case 0 -> root.addListener(builder.handler(event -> log.add(name)).build());
+                case 1 -> root.addListener(builder.handler(event -> {
+                    throw new IllegalStateException(name);
+                }).build());
+                case 2 -> root.addListener(builder.handler(event -> log.add(name)).expireCount(2).build());
+                case 3 -> root.addListener(builder.handler(event -> {
+                    log.add(name);
+                    if (event instanceof CancellableEvent cancellable) cancellable.setCancelled(true);
+                }).build());
+                default -> root.register(EventBinding.filtered(EventFilter.ALL, ignored -> true)
+                        .map(type, (ignored, event) -> log.add(name))
+                        .build());
+            }
+        }
+        var mapped = root.map("owner", EventFilter.from(type, String.class, event -> "owner"));
+        mapped.addListener(EventListener.builder(type)
+                .ignoreCancelled(ignoreCancelled)
+                .handler(event -> log.add("mapped"))
+                .build());
+        var child = EventNode.all("child");
+        child.addListener(EventListener.builder(type)
+                .ignoreCancelled(ignoreCancelled)
+                .handler(event -> log.add("child"))
+                .build());
+        root.addChild(child);
+        if (frozen) root.freeze();
+
+        for (int i = 0; i < 3; i++) {
+            log.add("call " + i);
+            root.call(events.get());
+        }
+        return log;
+    }
+
+    record TestEvent() {
+    }
+
+    static final class CancellableTestEvent implements CancellableEvent {
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+}
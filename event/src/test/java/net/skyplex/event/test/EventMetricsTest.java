@@ -0,0 +1,137 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventBinding;
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+public class EventMetricsTest {
+
+    @Test
+    public void disabledByDefault() {
+        var node = EventNode.all("root");
+        Assertions.assertNull(node.metrics());
+    }
+
+    @Test
+    public void countInvocations() {
+        var node = EventNode.all("root");
+        node.setMetricsEnabled(true);
+        var listener = EventListener.of(TestEvent.class, event -> {
+        });
+        node.addListener(listener);
+        for (int i = 0; i < 10; i++) node.call(new TestEvent());
+
+        var metrics = node.metrics();
+        Assertions.assertNotNull(metrics);
+        Assertions.assertEquals(10, metrics.node().invocations());
+        Assertions.assertEquals(10, metrics.listeners().get(listener).invocations());
+        Assertions.assertEquals(1, metrics.rebuilds());
+        Assertions.assertTrue(metrics.node().percentileNanos(0.99) >= metrics.node().percentileNanos(0.5));
+    }
+
+    @Test
+    public void countExceptions() {
+        var node = EventNode.all("root");
+        node.setExceptionHandler(throwable -> {
+        });
+        node.setMetricsEnabled(true);
+        var listener = EventListener.of(TestEvent.class, event -> {
+            throw new IllegalStateException("Expected");
+        });
+        node.addListener(listener);
+        node.call(new TestEvent());
+        node.call(new TestEvent());
+
+        var metrics = node.metrics();
+        Assertions.assertNotNull(metrics);
+        Assertions.assertEquals(2, metrics.node().exceptions());
+        Assertions.assertEquals(2, metrics.listeners().get(listener).exceptions());
+    }
+
+    @Test
+    public void countBindings() {
+        var node = EventNode.all("root");
+        node.setMetricsEnabled(true);
+        var binding = EventBinding.filtered(EventFilter.ALL, ignored -> true)
+                .map(TestEvent.class, (ignored, event) -> {
+                })
+                .build();
+        node.register(binding);
+        for (int i = 0; i < 3; i++) node.call(new TestEvent());
+
+        var metrics = node.metrics();
+        Assertions.assertNotNull(metrics);
+        Assertions.assertEquals(1, metrics.listeners().size());
+        Assertions.assertEquals(3, metrics.listeners().values().iterator().next().invocations());
+        node.unregister(binding);
+        Assertions.assertTrue(metrics.listeners().isEmpty());
+    }
+
+    @Test
+    public void countBatches() {
+        var node = EventNode.all("root");
+        node.setMetricsEnabled(true);
+        node.addListener(TestEvent.class, event -> {
+        });
+        node.callAll(List.of(new TestEvent(), new TestEvent(), new TestEvent()));
+        node.callAll(List.of(new TestEvent()));
+
+        var metrics = node.metrics();
+        Assertions.assertNotNull(metrics);
+        Assertions.assertEquals(4, metrics.node().invocations());
+        Assertions.assertEquals(2, metrics.batches().invocations());
+        Assertions.assertEquals(metrics.node().totalNanos(), metrics.batches().totalNanos());
+    }
+
+    @Test
+    public void forgetRemovedListeners() {
+        var node = EventNode.all("root");
+        node.setMetricsEnabled(true);
+        var removed = EventListener.of(TestEvent.class, event -> {
+        });
+        var expiring = EventListener.builder(TestEvent.class)
+                .handler(event -> {
+                })
+                .expireCount(1)
+                .build();
+        var kept = EventListener.of(TestEvent.class, event -> {
+        });
+        node.addListener(removed);
+        node.addListener(expiring);
+        node.addListener(kept);
+        node.call(new TestEvent());
+
+        var metrics = node.metrics();
+        Assertions.assertNotNull(metrics);
+        // Expired after its single call
+        Assertions.assertEquals(Set.of(removed, kept), metrics.listeners().keySet());
+        node.removeListener(removed);
+        Assertions.assertEquals(Set.of(kept), metrics.listeners().keySet());
+        node.call(new TestEvent());
+        Assertions.assertEquals(Set.of(kept), metrics.listeners().keySet());
+        Assertions.assertEquals(2, metrics.listeners().get(kept).invocations());
+    }
+
+    @Test
+    public void annotatedGraph() {
+        var node = EventNode.all("root");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        child.setMetricsEnabled(true);
+        child.addListener(TestEvent.class, event -> {
+        });
+        node.call(new TestEvent());
+        final String graph = node.toString();
+        Assertions.assertTrue(graph.contains("child - EventType: Object - Priority: 0 - calls=1"), graph);
+        Assertions.assertTrue(graph.contains("* TestEvent@"), graph);
+    }
+
+    static final class TestEvent {
+    }
+}
@@ -0,0 +1,124 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventCodec;
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.EventRecorder;
+import net.skyplex.common.event.EventReplayer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class EventRecorderTest {
+    private static final EventCodec<TestEvent> CODEC = new EventCodec<>() {
+        @Override
+        public void encode(TestEvent event, ByteBuffer buffer) {
+            buffer.putInt(event.id());
+        }
+
+        @Override
+        public TestEvent decode(ByteBuffer buffer) {
+            return new TestEvent(buffer.getInt());
+        }
+    };
+
+    private static final EventCodec<RawEvent> RAW_CODEC = new EventCodec<>() {
+        @Override
+        public void encode(RawEvent event, ByteBuffer buffer) {
+            buffer.put(event.bytes());
+        }
+
+        @Override
+        public RawEvent decode(ByteBuffer buffer) {
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return new RawEvent(bytes);
+        }
+    };
+
+    @Test
+    public void recordAndReplay() throws IOException {
+        final Path file = Files.createTempFile("events", ".rec");
+        try {
+            var node = EventNode.all("root");
+            try (EventRecorder recorder = EventRecorder.builder(file).capacity(4096).codec(TestEvent.class, CODEC).open()) {
+                recorder.attach(node);
+                for (int i = 0; i < 10; i++) node.call(new TestEvent(i));
+                node.call("not recorded");
+                recorder.detach(node);
+                node.call(new TestEvent(10));
+            }
+
+            var replayer = EventReplayer.builder(file).codec(TestEvent.class, CODEC).read();
+            Assertions.assertEquals(10, replayer.events().size());
+            var target = EventNode.all("target");
+            List<Integer> replayed = new CopyOnWriteArrayList<>();
+            target.addListener(TestEvent.class, event -> replayed.add(event.id()));
+            Assertions.assertEquals(10, replayer.replay(target, EventReplayer.Pacing.MAXIMUM));
+            Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), replayed);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void overwriteOldest() throws IOException {
+        final Path file = Files.createTempFile("events", ".rec");
+        try {
+            try (EventRecorder recorder = EventRecorder.builder(file).capacity(1000).codec(TestEvent.class, CODEC).open()) {
+                for (int i = 0; i < 1000; i++) recorder.record(new TestEvent(i));
+            }
+
+            var events = EventReplayer.builder(file).codec(TestEvent.class, CODEC).read().events();
+            Assertions.assertFalse(events.isEmpty());
+            // Contiguous up to the newest event
+            Assertions.assertEquals(999, ((TestEvent) events.get(events.size() - 1).event()).id());
+            for (int i = 1; i < events.size(); i++) {
+                Assertions.assertEquals(((TestEvent) events.get(i - 1).event()).id() + 1, ((TestEvent) events.get(i).event()).id());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void ignoreHeaderInPayload() throws IOException {
+        final Path file = Files.createTempFile("events", ".rec");
+        try {
+            // Header of a record at position 32, within the payload of the first record
+            final ByteBuffer forged = ByteBuffer.allocate(40);
+            forged.putInt(0);
+            forged.putLong(32).putInt(32).putInt(0).putLong(0).putInt(0);
+            forged.putInt(42);
+            try (EventRecorder recorder = EventRecorder.builder(file).capacity(4096)
+                    .codec(TestEvent.class, CODEC)
+                    .codec(RawEvent.class, RAW_CODEC)
+                    .open()) {
+                recorder.record(new RawEvent(forged.array()));
+                recorder.record(new TestEvent(1));
+            }
+            // Uncommit the first record, as if the process died while writing it
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(4), 4096 + 8);
+            }
+
+            var events = EventReplayer.builder(file).codec(TestEvent.class, CODEC).read().events();
+            Assertions.assertEquals(List.of(new TestEvent(1)), events.stream().map(EventReplayer.Recorded::event).toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    record TestEvent(int id) {
+    }
+
+    record RawEvent(byte[] bytes) {
+    }
+}
@@ -0,0 +1,50 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExpiredListenerTest {
+
+    @Test
+    public void oneShotListeners() {
+        var node = EventNode.all("root");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            child.addListener(EventListener.builder(TestEvent.class)
+                    .expireCount(1)
+                    .handler(event -> calls.incrementAndGet())
+                    .build());
+        }
+        node.call(new TestEvent());
+        Assertions.assertEquals(1000, calls.get());
+        node.call(new TestEvent());
+        Assertions.assertEquals(1000, calls.get());
+        Assertions.assertFalse(node.getHandle(TestEvent.class).hasListener());
+    }
+
+    @Test
+    public void expireWhen() {
+        var node = EventNode.all("root");
+        AtomicInteger calls = new AtomicInteger();
+        var listener = EventListener.builder(TestEvent.class)
+                .expireWhen(event -> calls.get() == 2)
+                .handler(event -> calls.incrementAndGet())
+                .build();
+        node.addListener(listener);
+        for (int i = 0; i < 5; i++) node.call(new TestEvent());
+        Assertions.assertEquals(2, calls.get());
+        // Already expired
+        node.removeListener(listener);
+        node.call(new TestEvent());
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    static final class TestEvent {
+    }
+}
@@ -0,0 +1,79 @@
+package net.skyplex.event.test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class FlightRecorderTest {
+
+    @Test
+    public void recordDispatch() throws IOException {
+        final Path file = Files.createTempFile("events", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("net.skyplex.event.Dispatch");
+                recording.enable("net.skyplex.event.Rebuild");
+                recording.enable("net.skyplex.event.Mutation");
+                recording.start();
+                var node = EventNode.all("root");
+                var child = EventNode.all("child");
+                node.addChild(child);
+                child.addListener(TestEvent.class, event -> {
+                });
+                node.call(new TestEvent());
+                recording.stop();
+                recording.dump(file);
+            }
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            final RecordedEvent dispatch = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("net.skyplex.event.Dispatch"))
+                    .findFirst().orElseThrow();
+            Assertions.assertEquals("root", dispatch.getString("node"));
+            Assertions.assertEquals(TestEvent.class.getName(), dispatch.getClass("eventType").getName());
+            Assertions.assertEquals(1, dispatch.getInt("count"));
+            Assertions.assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("net.skyplex.event.Rebuild")));
+            Assertions.assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("net.skyplex.event.Mutation")
+                    && event.getString("operation").equals("addListener") && event.getString("node").equals("root/child")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void recordBatchDispatch() throws IOException {
+        final Path file = Files.createTempFile("events", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("net.skyplex.event.Dispatch");
+                recording.start();
+                var node = EventNode.all("root");
+                node.addListener(TestEvent.class, event -> {
+                });
+                node.callAll(List.of(new TestEvent(), new TestEvent(), new TestEvent()));
+                recording.stop();
+                recording.dump(file);
+            }
+
+            final RecordedEvent dispatch = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("net.skyplex.event.Dispatch"))
+                    .findFirst().orElseThrow();
+            Assertions.assertEquals("root", dispatch.getString("node"));
+            Assertions.assertEquals(TestEvent.class.getName(), dispatch.getClass("eventType").getName());
+            Assertions.assertEquals(3, dispatch.getInt("count"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    record TestEvent() {
+    }
+}
@@ -0,0 +1,47 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+public class FootprintTest {
+    /**
+     * Bytes retained by a node without listener, children or mapped node.
+     */
+    private static final long EMPTY_NODE_LIMIT = 512;
+    /**
+     * Bytes retained by a node with a single listener, the listener included.
+     */
+    private static final long LISTENER_NODE_LIMIT = 1024;
+
+    @Test
+    public void emptyNode() {
+        var node = EventNode.all("node");
+        final long size = retainedSize(node);
+        Assertions.assertTrue(size <= EMPTY_NODE_LIMIT, "Empty node retains " + size + " bytes");
+    }
+
+    @Test
+    public void nodeWithListener() {
+        var node = EventNode.all("node");
+        node.addListener(EventListener.of(TestEvent.class, event -> {
+        }));
+        final long size = retainedSize(node);
+        Assertions.assertTrue(size <= LISTENER_NODE_LIMIT, "Node with a listener retains " + size + " bytes");
+    }
+
+    /**
+     * Gets the bytes reachable from the node, excluding the objects shared by every node.
+     */
+    private static long retainedSize(EventNode<?> node) {
+        final GraphLayout shared = GraphLayout.parseInstance(EventFilter.ALL, node.getName(),
+                node.getEventType(), TestEvent.class);
+        return GraphLayout.parseInstance(node).subtract(shared).totalSize();
+    }
+
+    record TestEvent() {
+    }
+}
@@ -0,0 +1,81 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FreezeTest {
+
+    @Test
+    public void dispatchFrozen() {
+        var node = EventNode.all("root");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        AtomicInteger calls = new AtomicInteger();
+        node.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        child.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        node.freeze();
+        Assertions.assertTrue(node.isFrozen());
+        Assertions.assertTrue(child.isFrozen());
+
+        node.call(new TestEvent());
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertThrows(IllegalStateException.class, () -> node.addListener(TestEvent.class, event -> calls.incrementAndGet()));
+        Assertions.assertThrows(IllegalStateException.class, () -> child.addChild(EventNode.all("other")));
+        Assertions.assertThrows(IllegalStateException.class, () -> node.removeChild(child));
+        node.call(new TestEvent());
+        Assertions.assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void unfreeze() {
+        var node = EventNode.all("root");
+        AtomicInteger calls = new AtomicInteger();
+        node.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        node.freeze();
+        node.call(new TestEvent());
+        node.unfreeze();
+        Assertions.assertFalse(node.isFrozen());
+
+        node.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        node.call(new TestEvent());
+        Assertions.assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void unfreezeChild() {
+        var node = EventNode.all("root");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        AtomicInteger calls = new AtomicInteger();
+        child.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        node.freeze();
+        Assertions.assertThrows(IllegalStateException.class, child::unfreeze);
+        Assertions.assertTrue(child.isFrozen());
+
+        node.unfreeze();
+        child.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        node.call(new TestEvent());
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void expireFrozen() {
+        var node = EventNode.all("root");
+        AtomicInteger calls = new AtomicInteger();
+        node.addListener(EventListener.builder(TestEvent.class)
+                .handler(event -> calls.incrementAndGet())
+                .expireCount(1)
+                .build());
+        node.freeze();
+        node.call(new TestEvent());
+        node.call(new TestEvent());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    record TestEvent() {
+    }
+}
@@ -0,0 +1,157 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GraphBatchTest {
+
+    @Test
+    public void dispatchPreviousGraph() {
+        var node = EventNode.all("root");
+        AtomicInteger before = new AtomicInteger();
+        AtomicInteger after = new AtomicInteger();
+        var listener = EventListener.of(TestEvent.class, event -> before.incrementAndGet());
+        node.addListener(listener);
+        node.call(new TestEvent());
+        Assertions.assertEquals(1, before.get());
+
+        node.batch(n -> {
+            n.removeListener(listener);
+            var child = EventNode.all("child");
+            n.addChild(child);
+            child.addListener(TestEvent.class, event -> after.incrementAndGet());
+            // Other threads keep using the listeners built before the batch, without waiting for it
+            CompletableFuture.runAsync(() -> node.call(new TestEvent())).orTimeout(5, TimeUnit.SECONDS).join();
+            Assertions.assertEquals(2, before.get());
+            Assertions.assertEquals(0, after.get());
+        });
+
+        node.call(new TestEvent());
+        Assertions.assertEquals(2, before.get());
+        Assertions.assertEquals(1, after.get());
+    }
+
+    @Test
+    public void singleRebuild() {
+        var node = EventNode.all("root");
+        node.setMetricsEnabled(true);
+        AtomicInteger calls = new AtomicInteger();
+        node.call(new TestEvent());
+        Assertions.assertEquals(1, node.metrics().rebuilds());
+        node.batch(n -> {
+            for (int i = 0; i < 10; i++) {
+                n.addListener(TestEvent.class, event -> calls.incrementAndGet());
+                n.batch(nested -> nested.addChild(EventNode.all("child")));
+                CompletableFuture.runAsync(() -> node.call(new TestEvent())).orTimeout(5, TimeUnit.SECONDS).join();
+            }
+        });
+        Assertions.assertEquals(0, calls.get());
+        node.call(new TestEvent());
+        node.call(new TestEvent());
+        Assertions.assertEquals(20, calls.get());
+        Assertions.assertEquals(2, node.metrics().rebuilds());
+    }
+
+    @Test
+    public void keepAppliedMutations() {
+        var node = EventNode.all("root");
+        AtomicInteger calls = new AtomicInteger();
+        Assertions.assertThrows(IllegalStateException.class, () -> node.batch(n -> {
+            n.addListener(TestEvent.class, event -> calls.incrementAndGet());
+            throw new IllegalStateException();
+        }));
+        node.call(new TestEvent());
+        Assertions.assertEquals(1, calls.get());
+
+        node.freeze();
+        Assertions.assertThrows(IllegalStateException.class, () -> node.batch(n -> {
+        }));
+    }
+
+    @Test
+    public void rejectOtherGraphs() {
+        var node = EventNode.all("root");
+        var other = EventNode.all("other");
+        AtomicInteger calls = new AtomicInteger();
+        Assertions.assertThrows(IllegalStateException.class, () -> node.batch(n ->
+                other.addListener(TestEvent.class, event -> calls.incrementAndGet())));
+        Assertions.assertThrows(IllegalStateException.class, () -> node.batch(n -> other.batch(o -> {
+        })));
+        other.call(new TestEvent());
+        Assertions.assertEquals(0, calls.get());
+
+        // New children join the graph of the batch
+        var child = EventNode.all("child");
+        node.batch(n -> {
+            n.addChild(child);
+            child.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        });
+        node.call(new TestEvent());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void crossedBatches() throws Exception {
+        var first = EventNode.all("first");
+        var second = EventNode.all("second");
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(2);
+        for (var pair : List.of(List.of(first, second), List.of(second, first))) {
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < 1_000; i++) {
+                        pair.get(0).batch(n -> {
+                            try {
+                                pair.get(1).addListener(TestEvent.class, event -> {
+                                });
+                            } catch (IllegalStateException e) {
+                                rejected.incrementAndGet();
+                            }
+                        });
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+        Assertions.assertEquals(2_000, rejected.get());
+        Assertions.assertFalse(first.hasListener(TestEvent.class));
+        Assertions.assertFalse(second.hasListener(TestEvent.class));
+    }
+
+    @Test
+    public void dispatchToContendedGraph() throws Exception {
+        var node = EventNode.all("root");
+        var other = EventNode.all("other");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        var holder = CompletableFuture.runAsync(() -> other.batch(o -> {
+            o.addListener(TestEvent.class, event -> calls.incrementAndGet());
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        Assertions.assertTrue(locked.await(10, TimeUnit.SECONDS));
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(release::countDown);
+        // Rebuilding the handle of the other graph waits for its batch instead of failing
+        node.batch(n -> other.call(new TestEvent()));
+        holder.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    record TestEvent() {
+    }
+}
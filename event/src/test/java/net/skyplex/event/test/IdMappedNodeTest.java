@@ -0,0 +1,139 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.IntEventFilter;
+import net.skyplex.common.event.LongEventFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IdMappedNodeTest {
+    private static final IntEventFilter<EntityEvent> ENTITY_FILTER = IntEventFilter.from(EntityEvent.class, EntityEvent::entityId);
+    private static final LongEventFilter<EntityEvent> SESSION_FILTER = LongEventFilter.from(EntityEvent.class, EntityEvent::sessionId);
+
+    @Test
+    public void routeById() {
+        var node = EventNode.all("root");
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) node.mapInt(i, ENTITY_FILTER); // Without listener, not routed
+        node.mapInt(1, ENTITY_FILTER).addListener(EntityEvent.class, event -> first.incrementAndGet());
+        node.mapInt(2, ENTITY_FILTER).addListener(EntityEvent.class, event -> second.incrementAndGet());
+        Assertions.assertSame(node.mapInt(1, ENTITY_FILTER), node.mapInt(1, ENTITY_FILTER));
+
+        node.call(new EntityEvent(1, 0));
+        node.call(new EntityEvent(1, 0));
+        node.call(new EntityEvent(2, 0));
+        node.call(new EntityEvent(3, 0));
+        Assertions.assertEquals(2, first.get());
+        Assertions.assertEquals(1, second.get());
+    }
+
+    @Test
+    public void unmap() {
+        var node = EventNode.all("root");
+        AtomicInteger calls = new AtomicInteger();
+        var mapped = node.mapInt(5, ENTITY_FILTER);
+        mapped.addListener(EntityEvent.class, event -> calls.incrementAndGet());
+        node.call(new EntityEvent(5, 0));
+        node.unmapInt(5);
+        node.call(new EntityEvent(5, 0));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertNull(mapped.getParent());
+        Assertions.assertNotSame(mapped, node.mapInt(5, ENTITY_FILTER));
+    }
+
+    @Test
+    public void separateKinds() {
+        var node = EventNode.all("root");
+        AtomicInteger entity = new AtomicInteger();
+        AtomicInteger session = new AtomicInteger();
+        node.mapInt(7, ENTITY_FILTER).addListener(EntityEvent.class, event -> entity.incrementAndGet());
+        node.mapLong(7L, SESSION_FILTER).addListener(EntityEvent.class, event -> session.incrementAndGet());
+        Assertions.assertNotSame(node.mapInt(7, ENTITY_FILTER), node.mapLong(7L, SESSION_FILTER));
+
+        node.call(new EntityEvent(7, 1L << 40));
+        Assertions.assertEquals(1, entity.get());
+        Assertions.assertEquals(0, session.get());
+        node.call(new EntityEvent(0, 7L));
+        Assertions.assertEquals(1, session.get());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> node.mapInt(7, ENTITY_FILTER).mapInt(8, ENTITY_FILTER));
+    }
+
+    @Test
+    public void listenerChurn() {
+        var node = EventNode.all("root");
+        node.setMetricsEnabled(true);
+        AtomicInteger calls = new AtomicInteger();
+        node.mapInt(1, ENTITY_FILTER).addListener(EntityEvent.class, event -> calls.incrementAndGet());
+        var churned = node.mapInt(2, ENTITY_FILTER);
+        churned.addListener(EntityEvent.class, event -> {
+        });
+        node.call(new EntityEvent(1, 0));
+        final long rebuilds = node.metrics().rebuilds();
+
+        var listener = EventListener.of(EntityEvent.class, event -> calls.incrementAndGet());
+        for (int i = 0; i < 10; i++) {
+            churned.addListener(listener);
+            node.call(new EntityEvent(2, 0));
+            churned.removeListener(listener);
+            node.call(new EntityEvent(2, 0));
+        }
+        node.call(new EntityEvent(1, 0));
+        Assertions.assertEquals(12, calls.get());
+        // Another mapped node keeps listening to the type, the root is not rebuilt
+        Assertions.assertEquals(rebuilds, node.metrics().rebuilds());
+    }
+
+    @Test
+    public void firstMappedListener() {
+        var node = EventNode.all("root");
+        AtomicInteger calls = new AtomicInteger();
+        var child = EventNode.type("child", ENTITY_FILTER);
+        node.mapInt(1, ENTITY_FILTER).addChild(child);
+        node.call(new EntityEvent(1, 0));
+        Assertions.assertFalse(node.getHandle(EntityEvent.class).hasListener());
+        // Already registered, the root has to start routing once the child listens
+        var listener = EventListener.of(EntityEvent.class, event -> calls.incrementAndGet());
+        child.addListener(listener);
+        node.call(new EntityEvent(1, 0));
+        Assertions.assertEquals(1, calls.get());
+        child.removeListener(listener);
+        Assertions.assertFalse(node.getHandle(EntityEvent.class).hasListener());
+    }
+
+    @Test
+    public void scopedExpiry() {
+        var node = EventNode.all("root");
+        node.setMetricsEnabled(true);
+        AtomicInteger calls = new AtomicInteger();
+        node.addListener(UnrelatedEvent.class, event -> {
+        });
+        node.mapInt(1, ENTITY_FILTER).addListener(EntityEvent.class, event -> {
+        });
+        var expiring = node.mapInt(2, ENTITY_FILTER);
+        expiring.addListener(EventListener.builder(EntityEvent.class)
+                .handler(event -> calls.incrementAndGet())
+                .expireCount(1)
+                .build());
+        node.call(new UnrelatedEvent());
+        node.call(new EntityEvent(2, 0));
+        final long rebuilds = node.metrics().rebuilds();
+
+        node.call(new EntityEvent(2, 0));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertFalse(expiring.getHandle(EntityEvent.class).hasListener());
+        node.call(new UnrelatedEvent());
+        node.call(new EntityEvent(1, 0));
+        // Only the mapped node is rebuilt, before and after the expired listener is removed
+        Assertions.assertEquals(rebuilds, node.metrics().rebuilds());
+    }
+
+    record UnrelatedEvent() {
+    }
+
+    record EntityEvent(int entityId, long sessionId) {
+    }
+}
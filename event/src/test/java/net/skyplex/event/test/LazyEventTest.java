@@ -0,0 +1,90 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyEventTest {
+
+    @Test
+    public void supplyWithListener() {
+        var node = EventNode.all("root");
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+        node.call(TestEvent.class, () -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        });
+        Assertions.assertEquals(0, created.get());
+
+        var child = EventNode.all("child");
+        node.addChild(child);
+        var listener = EventListener.of(TestEvent.class, event -> calls.incrementAndGet());
+        child.addListener(listener);
+        node.call(TestEvent.class, () -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        });
+        Assertions.assertEquals(1, created.get());
+        Assertions.assertEquals(1, calls.get());
+
+        child.removeListener(listener);
+        node.call(TestEvent.class, () -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        });
+        Assertions.assertEquals(1, created.get());
+    }
+
+    @Test
+    public void handle() {
+        var node = EventNode.all("root");
+        var handle = node.getHandle(TestEvent.class);
+        AtomicInteger created = new AtomicInteger();
+        handle.call(() -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        });
+        Assertions.assertEquals(0, created.get());
+
+        AtomicInteger calls = new AtomicInteger();
+        node.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        handle.call(() -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        });
+        Assertions.assertEquals(1, created.get());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void skipExpired() {
+        var node = EventNode.all("root");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        var handle = node.getHandle(TestEvent.class);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+        child.addListener(EventListener.builder(TestEvent.class)
+                .handler(event -> calls.incrementAndGet())
+                .expireCount(1)
+                .build());
+        Assertions.assertTrue(handle.hasListener());
+        for (int i = 0; i < 2; i++) {
+            handle.call(() -> {
+                created.incrementAndGet();
+                return new TestEvent();
+            });
+        }
+        Assertions.assertEquals(1, created.get());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertFalse(handle.hasListener());
+        Assertions.assertFalse(child.getHandle(TestEvent.class).hasListener());
+    }
+
+    record TestEvent() {
+    }
+}
@@ -0,0 +1,129 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventListener;
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.ListenerWatchdog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+public class ListenerWatchdogTest {
+
+    @Test
+    public void reportSlowListener() {
+        List<ListenerWatchdog.Report> reports = new ArrayList<>();
+        var root = EventNode.all("root");
+        var child = EventNode.all("child");
+        root.addChild(child);
+        root.setWatchdog(ListenerWatchdog.builder()
+                .budget(Duration.ofMillis(1))
+                .sink(reports::add)
+                .build());
+        var slow = EventListener.of(TestEvent.class, event -> sleep(5));
+        child.addListener(slow);
+        child.addListener(TestEvent.class, event -> {
+        });
+        root.call(new TestEvent());
+
+        Assertions.assertEquals(1, reports.size());
+        var report = reports.get(0);
+        Assertions.assertEquals("root/child", report.nodePath());
+        Assertions.assertSame(slow, report.listener());
+        Assertions.assertEquals(TestEvent.class, report.eventType());
+        Assertions.assertTrue(report.durationNanos() > report.budgetNanos());
+    }
+
+    @Test
+    public void eventTypeBudget() {
+        List<ListenerWatchdog.Report> reports = new ArrayList<>();
+        var node = EventNode.all("root");
+        node.setWatchdog(ListenerWatchdog.builder()
+                .budget(Duration.ofMillis(1))
+                .budget(TestEvent.class, Duration.ofSeconds(10))
+                .sink(reports::add)
+                .build());
+        node.addListener(TestEvent.class, event -> sleep(5));
+        node.addListener(OtherEvent.class, event -> sleep(5));
+        node.call(new TestEvent());
+        Assertions.assertTrue(reports.isEmpty());
+        node.call(new OtherEvent());
+        Assertions.assertEquals(1, reports.size());
+        Assertions.assertEquals(OtherEvent.class, reports.get(0).eventType());
+    }
+
+    @Test
+    public void firstSupertypeBudget() {
+        List<ListenerWatchdog.Report> reports = new ArrayList<>();
+        var node = EventNode.all("root");
+        node.setWatchdog(ListenerWatchdog.builder()
+                .budget(FirstType.class, Duration.ofNanos(1))
+                .budget(SecondType.class, Duration.ofNanos(2))
+                .budget(ThirdType.class, Duration.ofNanos(3))
+                .budget(FourthType.class, Duration.ofNanos(4))
+                .sink(reports::add)
+                .build());
+        node.addListener(SubtypeEvent.class, event -> sleep(1));
+        node.call(new SubtypeEvent());
+        Assertions.assertEquals(1, reports.size());
+        Assertions.assertEquals(1, reports.get(0).budgetNanos());
+    }
+
+    @Test
+    public void defaultToExceptionHandler() {
+        List<Throwable> exceptions = new ArrayList<>();
+        var node = EventNode.all("root");
+        node.setExceptionHandler(exceptions::add);
+        node.setWatchdog(ListenerWatchdog.builder().budget(Duration.ofMillis(1)).build());
+        node.addListener(TestEvent.class, event -> sleep(5));
+        node.call(new TestEvent());
+
+        Assertions.assertEquals(1, exceptions.size());
+        var exception = Assertions.assertInstanceOf(ListenerWatchdog.SlowListenerException.class, exceptions.get(0));
+        Assertions.assertEquals("root", exception.report().nodePath());
+    }
+
+    @Test
+    public void removeWatchdog() {
+        List<ListenerWatchdog.Report> reports = new ArrayList<>();
+        var node = EventNode.all("root");
+        node.setWatchdog(ListenerWatchdog.builder()
+                .budget(Duration.ofMillis(1))
+                .sink(reports::add)
+                .build());
+        node.addListener(TestEvent.class, event -> sleep(5));
+        node.call(new TestEvent());
+        node.setWatchdog(null);
+        node.call(new TestEvent());
+        Assertions.assertEquals(1, reports.size());
+    }
+
+    private static void sleep(long millis) {
+        final long end = System.nanoTime() + Duration.ofMillis(millis).toNanos();
+        while (System.nanoTime() < end) LockSupport.parkNanos(end - System.nanoTime());
+    }
+
+    static final class TestEvent {
+    }
+
+    static final class OtherEvent {
+    }
+
+    interface FirstType {
+    }
+
+    interface SecondType {
+    }
+
+    interface ThirdType {
+    }
+
+    interface FourthType {
+    }
+
+    static final class SubtypeEvent implements FourthType, ThirdType, SecondType, FirstType {
+    }
+}
@@ -0,0 +1,124 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class MappedNodeStressTest {
+    private static final EventFilter<OwnedEvent, Owner> FILTER = EventFilter.from(OwnedEvent.class, Owner.class, OwnedEvent::owner);
+
+    @Test
+    public void concurrentDispatchAndMapping() throws Exception {
+        final int dispatchers = 4;
+        final int calls = 20_000;
+        var root = EventNode.all("root");
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        root.setExceptionHandler(failure::set);
+
+        // Owners mapped for the whole test, each dispatcher must see all its events
+        List<Owner> owners = new ArrayList<>();
+        List<AtomicInteger> counters = new ArrayList<>();
+        List<EventNode<OwnedEvent>> nodes = new ArrayList<>(); // Mapped nodes are weakly referenced
+        for (int i = 0; i < dispatchers; i++) {
+            Owner owner = new Owner();
+            AtomicInteger counter = new AtomicInteger();
+            EventNode<OwnedEvent> node = root.map(owner, FILTER);
+            node.addListener(OwnedEvent.class, event -> counter.incrementAndGet());
+            owners.add(owner);
+            counters.add(counter);
+            nodes.add(node);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger churnCalls = new AtomicInteger();
+        List<Owner> unmapped = new ArrayList<>();
+        // Map, unmap and drop owners while dispatching
+        Thread churn = new Thread(() -> {
+            int iteration = 0;
+            while (running.get()) {
+                Owner owner = new Owner();
+                var node = root.map(owner, FILTER);
+                node.addListener(OwnedEvent.class, event -> churnCalls.incrementAndGet());
+                root.call(new OwnedEvent(owner));
+                if (iteration++ % 2 == 0) {
+                    root.unmap(owner);
+                    if (unmapped.size() < 100) unmapped.add(owner);
+                }
+            }
+        });
+        churn.start();
+
+        CountDownLatch done = new CountDownLatch(dispatchers);
+        for (int i = 0; i < dispatchers; i++) {
+            final Owner owner = owners.get(i);
+            new Thread(() -> {
+                try {
+                    for (int j = 0; j < calls; j++) {
+                        root.call(new OwnedEvent(owner));
+                        root.call(new OwnedEvent(new Owner())); // Unmapped owner
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        Assertions.assertTrue(done.await(60, TimeUnit.SECONDS));
+        running.set(false);
+        churn.join();
+
+        Assertions.assertNull(failure.get());
+        for (AtomicInteger counter : counters) {
+            Assertions.assertEquals(calls, counter.get());
+        }
+
+        // Unmapped owners are out of the index
+        final int churned = churnCalls.get();
+        for (Owner owner : unmapped) {
+            root.call(new OwnedEvent(owner));
+        }
+        Assertions.assertEquals(churned, churnCalls.get());
+
+        // Collected owners release their node, the others are still routed
+        WeakReference<EventNode<OwnedEvent>> collected = mapDropped(root);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (collected.get() != null && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(collected.get(), "Mapped node of a collected owner must not be retained");
+        for (int i = 0; i < dispatchers; i++) {
+            root.call(new OwnedEvent(owners.get(i)));
+            Assertions.assertEquals(calls + 1, counters.get(i).get());
+        }
+        Reference.reachabilityFence(nodes);
+    }
+
+    private static WeakReference<EventNode<OwnedEvent>> mapDropped(EventNode<Object> root) {
+        Owner owner = new Owner();
+        var node = root.map(owner, FILTER);
+        AtomicInteger counter = new AtomicInteger();
+        node.addListener(OwnedEvent.class, event -> counter.incrementAndGet());
+        root.call(new OwnedEvent(owner));
+        Assertions.assertEquals(1, counter.get());
+        return new WeakReference<>(node);
+    }
+
+    record OwnedEvent(Owner owner) {
+    }
+
+    static final class Owner {
+    }
+}
@@ -0,0 +1,110 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.CancellableEvent;
+import net.skyplex.common.event.EventNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ParallelChildrenTest {
+
+    @Test
+    public void joinBeforeReturning() {
+        var node = EventNode.all("root");
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            var child = EventNode.all("child" + i).setParallel(true);
+            child.addListener(TestEvent.class, event -> {
+                threads.add(Thread.currentThread());
+                sleep();
+                calls.incrementAndGet();
+            });
+            node.addChild(child);
+        }
+
+        for (int i = 0; i < 4; i++) node.call(new TestEvent());
+        Assertions.assertEquals(32, calls.get());
+        Assertions.assertTrue(threads.stream().anyMatch(thread -> thread != Thread.currentThread()));
+    }
+
+    @Test
+    public void sequentialOrder() {
+        var node = EventNode.all("root");
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        AtomicInteger parallelCalls = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            final int priority = 3 - i;
+            var child = EventNode.all("sequential" + priority).setPriority(priority);
+            child.addListener(TestEvent.class, event -> order.add(priority));
+            node.addChild(child);
+            node.addChild(EventNode.all("parallel" + i).setParallel(true)
+                    .addListener(TestEvent.class, event -> parallelCalls.incrementAndGet()));
+        }
+
+        node.call(new TestEvent());
+        Assertions.assertEquals(List.of(0, 1, 2, 3), order);
+        Assertions.assertEquals(4, parallelCalls.get());
+    }
+
+    @Test
+    public void exceptionHandler() {
+        var node = EventNode.all("root");
+        List<Throwable> exceptions = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        node.addChild(EventNode.all("failing").setParallel(true).setExceptionHandler(exceptions::add)
+                .addListener(TestEvent.class, event -> {
+                    throw new IllegalStateException();
+                }));
+        node.addChild(EventNode.all("working").setParallel(true)
+                .addListener(TestEvent.class, event -> calls.incrementAndGet()));
+
+        node.call(new TestEvent());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, exceptions.size());
+        Assertions.assertInstanceOf(IllegalStateException.class, exceptions.get(0));
+    }
+
+    @Test
+    public void cancellableSequential() {
+        var node = EventNode.all("root");
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 4; i++) {
+            node.addChild(EventNode.all("child" + i).setParallel(true)
+                    .addListener(CancellableTestEvent.class, event -> threads.add(Thread.currentThread())));
+        }
+
+        node.call(new CancellableTestEvent());
+        Assertions.assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    record TestEvent() {
+    }
+
+    static final class CancellableTestEvent implements CancellableEvent {
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.RecursiveEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RecursiveEventTest {
+
+    @Test
+    public void superclasses() {
+        var node = EventNode.all("root");
+        List<String> calls = new ArrayList<>();
+        node.addListener(BaseEvent.class, event -> calls.add("base"));
+        node.addListener(ChildEvent.class, event -> calls.add("child"));
+        node.addListener(NonRecursiveEvent.class, event -> calls.add("non-recursive"));
+
+        node.call(new ChildEvent());
+        Assertions.assertEquals(List.of("child", "base"), calls);
+        calls.clear();
+        node.call(new BaseEvent());
+        Assertions.assertEquals(List.of("base"), calls);
+    }
+
+    @Test
+    public void interfaces() {
+        var node = EventNode.all("root");
+        List<String> calls = new ArrayList<>();
+        node.addListener(PlayerEvent.class, event -> calls.add("player"));
+        node.addListener(EntityEvent.class, event -> calls.add("entity"));
+        node.addListener(RecursiveEvent.class, event -> calls.add("marker"));
+
+        node.call(new PlayerMoveEvent());
+        Assertions.assertEquals(List.of("player", "entity"), calls);
+    }
+
+    static class NonRecursiveEvent {
+    }
+
+    static class BaseEvent extends NonRecursiveEvent implements RecursiveEvent {
+    }
+
+    static class ChildEvent extends BaseEvent {
+    }
+
+    interface EntityEvent extends RecursiveEvent {
+    }
+
+    interface PlayerEvent extends EntityEvent {
+    }
+
+    static final class PlayerMoveEvent implements PlayerEvent {
+    }
+}
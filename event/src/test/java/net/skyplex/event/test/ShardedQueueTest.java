@@ -0,0 +1,122 @@
+package net.skyplex.event.test;
+
+import net.skyplex.common.event.EventFilter;
+import net.skyplex.common.event.EventNode;
+import net.skyplex.common.event.ShardedEventQueue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ShardedQueueTest {
+    private static final EventFilter<PlayerEvent, Integer> PLAYER_FILTER =
+            EventFilter.from(PlayerEvent.class, Integer.class, PlayerEvent::player);
+
+    @Test
+    public void orderPerKey() throws InterruptedException {
+        var queue = ShardedEventQueue.builder().shards(4).capacity(16).build();
+        var node = EventNode.all("root");
+        var child = EventNode.type("players", PLAYER_FILTER).setQueue(queue);
+        node.addChild(child);
+        Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(1000);
+        child.addListener(PlayerEvent.class, event -> {
+            received.computeIfAbsent(event.player(), p -> new CopyOnWriteArrayList<>()).add(event.sequence());
+            latch.countDown();
+        });
+
+        for (int i = 0; i < 1000; i++) node.call(new PlayerEvent(i % 10, i / 10));
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(10, received.size());
+        for (List<Integer> sequences : received.values()) {
+            for (int i = 0; i < sequences.size(); i++) Assertions.assertEquals(i, sequences.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void dropOldest() {
+        Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        var queue = ShardedEventQueue.builder().shards(1).capacity(2)
+                .backpressure(ShardedEventQueue.Backpressure.DROP_OLDEST)
+                .executor(tasks::add).build();
+        var node = EventNode.all("root");
+        var child = EventNode.type("players", PLAYER_FILTER).setQueue(queue);
+        node.addChild(child);
+        List<Integer> received = new ArrayList<>();
+        child.addListener(PlayerEvent.class, event -> received.add(event.sequence()));
+
+        for (int i = 0; i < 5; i++) node.call(new PlayerEvent(0, i));
+        Assertions.assertEquals(2, queue.depth());
+        runAll(tasks);
+        Assertions.assertEquals(List.of(3, 4), received);
+        Assertions.assertEquals(3, queue.dropped());
+        Assertions.assertEquals(0, queue.depth());
+    }
+
+    @Test
+    public void callerRuns() {
+        Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        var queue = ShardedEventQueue.builder().shards(1).capacity(1)
+                .backpressure(ShardedEventQueue.Backpressure.CALLER_RUNS)
+                .executor(tasks::add).build();
+        var node = EventNode.all("root");
+        var child = EventNode.type("players", PLAYER_FILTER).setQueue(queue);
+        node.addChild(child);
+        List<Integer> received = new ArrayList<>();
+        child.addListener(PlayerEvent.class, event -> received.add(event.sequence()));
+
+        node.call(new PlayerEvent(0, 0));
+        node.call(new PlayerEvent(0, 1));
+        Assertions.assertEquals(List.of(1), received);
+        Assertions.assertEquals(1, queue.depth(0));
+        runAll(tasks);
+        Assertions.assertEquals(List.of(1, 0), received);
+    }
+
+    @Test
+    public void rejectedDrain() {
+        Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        AtomicBoolean rejecting = new AtomicBoolean(true);
+        var queue = ShardedEventQueue.builder().shards(1).capacity(1024)
+                .executor(task -> {
+                    if (rejecting.get()) throw new RejectedExecutionException();
+                    tasks.add(task);
+                }).build();
+        var node = EventNode.all("root");
+        var child = EventNode.type("players", PLAYER_FILTER).setQueue(queue);
+        node.addChild(child);
+        List<Integer> received = new ArrayList<>();
+        child.addListener(PlayerEvent.class, event -> received.add(event.sequence()));
+
+        // Drained by the caller
+        node.call(new PlayerEvent(0, 0));
+        Assertions.assertEquals(List.of(0), received);
+        // Not left scheduled, the drain is submitted again
+        rejecting.set(false);
+        for (int i = 1; i <= 300; i++) node.call(new PlayerEvent(0, i));
+        Assertions.assertEquals(1, tasks.size());
+        // Resubmission rejected after a drain batch, the same thread keeps draining
+        rejecting.set(true);
+        runAll(tasks);
+        Assertions.assertEquals(301, received.size());
+        Assertions.assertEquals(0, queue.depth());
+    }
+
+    private static void runAll(Queue<Runnable> tasks) {
+        Runnable task;
+        while ((task = tasks.poll()) != null) task.run();
+    }
+
+    record PlayerEvent(int player, int sequence) {
+    }
+}
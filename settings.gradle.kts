@@ -1,4 +1,5 @@
 rootProject.name = "SkyCommon"
+include("benchmarks")
 include("event")
 include("i18n")
 include("object")